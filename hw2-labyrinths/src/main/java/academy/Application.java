@@ -1,6 +1,9 @@
 package academy;
 
+import academy.maze.command.DistanceFieldCommand;
 import academy.maze.command.GenerateMazeCommand;
+import academy.maze.command.ServeCommand;
+import academy.maze.command.SolveBatchCommand;
 import academy.maze.command.SolveMazeCommand;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
@@ -10,7 +13,13 @@ import picocli.CommandLine.Command;
         name = "maze-app",
         description = "Maze generator and solver CLI application.",
         mixinStandardHelpOptions = true,
-        subcommands = {GenerateMazeCommand.class, SolveMazeCommand.class})
+        subcommands = {
+            GenerateMazeCommand.class,
+            SolveMazeCommand.class,
+            SolveBatchCommand.class,
+            DistanceFieldCommand.class,
+            ServeCommand.class
+        })
 public class Application implements Runnable {
 
     /** Главный метод приложения. */
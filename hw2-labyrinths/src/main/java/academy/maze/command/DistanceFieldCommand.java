@@ -0,0 +1,181 @@
+package academy.maze.command;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Point;
+import academy.maze.io.DistanceFieldFileHandler;
+import academy.maze.io.MazeFileHandler;
+import academy.maze.renderer.impl.HeatmapRenderer;
+import academy.maze.solver.SolverUtils;
+import academy.maze.solver.impl.DistanceField;
+import academy.maze.solver.impl.DistanceStatistics;
+import academy.maze.solver.impl.MultiSourceBfs;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+/**
+ * Команда для расчёта поля расстояний от одной точки до всех ячеек. Результат выводится тепловой картой или
+ * сохраняется в двоичном формате {@link DistanceFieldFileHandler}, из которого пути от источника восстанавливаются
+ * без повторного поиска. Формат {@code stats} принимает несколько источников и выводит сводную статистику расстояний
+ * от каждого, посчитанную {@link DistanceStatistics}.
+ */
+@Command(name = "distance-field", description = "Compute distances from one point to every cell.")
+public class DistanceFieldCommand implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DistanceFieldCommand.class);
+
+    @Option(
+            names = {"-f", "--file"},
+            description = "Input maze file path",
+            required = true)
+    private String filePath;
+
+    @Option(
+            names = {"-s", "--source"},
+            description = "Source point in format x,y (repeatable for the stats format)",
+            required = true)
+    private String[] sourcePoints;
+
+    @Option(
+            names = {"-o", "--output"},
+            description = "Output file path")
+    private String outputPath;
+
+    @Option(
+            names = {"--format"},
+            description = "Output format: heatmap, binary, stats (binary requires --output)",
+            defaultValue = "heatmap")
+    private String format;
+
+    @Override
+    public void run() {
+        try {
+            String outputFormat = format.toLowerCase();
+            boolean binary = parseFormat(outputFormat);
+            if (binary && outputPath == null) {
+                throw new IllegalArgumentException("Binary distance field requires --output");
+            }
+
+            MazeFileHandler fileHandler = new MazeFileHandler();
+            fileHandler.setEnableSurfaces(true);
+            Maze maze = fileHandler.read(Path.of(filePath));
+            Point[] sources = new Point[sourcePoints.length];
+            for (int i = 0; i < sources.length; i++) {
+                sources[i] = Point.parse(sourcePoints[i]);
+            }
+
+            if (outputFormat.equals("stats")) {
+                writeStatistics(maze, sources, fileHandler);
+                return;
+            }
+            if (sources.length != 1) {
+                throw new IllegalArgumentException("Only the stats format accepts several sources");
+            }
+
+            Point source = sources[0];
+            LOGGER.info("Computing distance field from: {}", source);
+            DistanceField field = DistanceField.compute(maze, source);
+
+            if (binary) {
+                new DistanceFieldFileHandler().write(Path.of(outputPath), field);
+                LOGGER.info("Distance field saved to: {}", outputPath);
+                return;
+            }
+
+            HeatmapRenderer renderer = new HeatmapRenderer();
+            if (outputPath != null) {
+                try (Writer writer = fileHandler.openWriter(Path.of(outputPath))) {
+                    renderer.render(maze, field, writer);
+                }
+                LOGGER.info("Heatmap saved to: {}", outputPath);
+            } else {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, System.out.charset()));
+                renderer.render(maze, field, writer);
+                writer.flush();
+            }
+
+        } catch (Exception e) {
+            LOGGER.error("Error computing distance field", e);
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Считает статистику расстояний от источников и выводит по строке на источник.
+     *
+     * @param maze лабиринт
+     * @param sources источники
+     * @param fileHandler обработчик для открытия выходного файла
+     * @throws IOException если произошла ошибка записи
+     */
+    private void writeStatistics(Maze maze, Point[] sources, MazeFileHandler fileHandler) throws IOException {
+        int width = maze.grid().width();
+        int[] cells = new int[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            SolverUtils.validatePoints(maze, sources[i], sources[i]);
+            cells[i] = sources[i].y() * width + sources[i].x();
+        }
+
+        LOGGER.info("Computing distance statistics from {} sources", sources.length);
+        MultiSourceBfs.Statistics statistics = DistanceStatistics.compute(maze.grid(), cells);
+        LOGGER.info("Max eccentricity: {}, mean distance: {}", statistics.maxEccentricity(), statistics.meanDistance());
+
+        if (outputPath != null) {
+            try (Writer writer = fileHandler.openWriter(Path.of(outputPath))) {
+                writeStatistics(writer, sources, statistics);
+            }
+            LOGGER.info("Statistics saved to: {}", outputPath);
+        } else {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, System.out.charset()));
+            writeStatistics(writer, sources, statistics);
+            writer.flush();
+        }
+    }
+
+    /**
+     * Пишет строку {@code x,y эксцентриситет достижимых среднее} для каждого источника.
+     *
+     * @param writer получатель текста
+     * @param sources источники
+     * @param statistics статистика по источникам
+     * @throws IOException если произошла ошибка записи
+     */
+    private static void writeStatistics(Writer writer, Point[] sources, MultiSourceBfs.Statistics statistics)
+            throws IOException {
+        for (int i = 0; i < sources.length; i++) {
+            writer.write(String.format(
+                    Locale.ROOT,
+                    "%d,%d %d %d %.2f%n",
+                    sources[i].x(),
+                    sources[i].y(),
+                    statistics.eccentricity()[i],
+                    statistics.reachable()[i],
+                    (double) statistics.distanceSum()[i] / statistics.reachable()[i]));
+        }
+    }
+
+    /**
+     * Разбирает формат вывода.
+     *
+     * @param outputFormat формат в нижнем регистре
+     * @return true для двоичного формата
+     */
+    private static boolean parseFormat(String outputFormat) {
+        return switch (outputFormat) {
+            case "heatmap", "stats" -> false;
+            case "binary" -> true;
+            default ->
+                throw new IllegalArgumentException(
+                        "Unknown distance field format: " + outputFormat
+                                + ". Supported formats: heatmap, binary, stats");
+        };
+    }
+}
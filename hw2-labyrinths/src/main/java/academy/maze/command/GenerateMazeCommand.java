@@ -1,13 +1,23 @@
 package academy.maze.command;
 
+import academy.maze.dto.CellEncoding;
+import academy.maze.dto.CellGridFactory;
 import academy.maze.dto.Maze;
 import academy.maze.generator.Generator;
 import academy.maze.generator.GeneratorFactory;
 import academy.maze.generator.SurfaceDecorator;
+import academy.maze.generator.impl.EllerGenerator;
+import academy.maze.io.BinaryMazeFileHandler;
 import academy.maze.io.MazeFileHandler;
 import academy.maze.renderer.MazeRenderer;
 import academy.maze.renderer.RendererFactory;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.foreign.Arena;
 import java.nio.file.Path;
+import java.util.SplittableRandom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import picocli.CommandLine.Command;
@@ -21,7 +31,7 @@ public class GenerateMazeCommand implements Runnable {
 
     @Option(
             names = {"-a", "--algorithm"},
-            description = "Generation algorithm: dfs, prim",
+            description = "Generation algorithm: dfs, prim, kruskal, eller, division",
             required = true)
     private String algorithm;
 
@@ -53,36 +63,167 @@ public class GenerateMazeCommand implements Runnable {
             description = "Enable special surfaces (swamp, sand, coin) in generated maze")
     private boolean enableSurfaces;
 
+    @Option(
+            names = {"--stream"},
+            description = "Write rows to the output file while generating (eller only, requires --output)")
+    private boolean stream;
+
+    @Option(
+            names = {"--seed"},
+            description = "Random seed for reproducible generation")
+    private Long seed;
+
+    @Option(
+            names = {"--format"},
+            description = "Output format: text, binary (default: binary for .mzb output files, text otherwise)")
+    private String format;
+
+    @Option(
+            names = {"--gzip"},
+            description = "Compress the text output file with gzip (implied by a .gz output file name)")
+    private boolean gzip;
+
+    @Option(
+            names = {"--storage"},
+            description = "Grid storage: heap, offheap (default: offheap for binary output, heap otherwise)")
+    private String storage;
+
     @Override
     public void run() {
         try {
+            boolean binary = isBinaryFormat();
+            if (binary && gzip) {
+                throw new IllegalArgumentException("Binary format cannot be compressed");
+            }
+            if (stream) {
+                if (outputPath == null) {
+                    throw new IllegalArgumentException("Streaming generation requires --output");
+                }
+                if (binary) {
+                    throw new IllegalArgumentException("Streaming generation supports only the text format");
+                }
+                generateStreaming();
+                return;
+            }
+
+            long rootSeed = seed != null ? seed : new SplittableRandom().nextLong();
+            SplittableRandom seeds = new SplittableRandom(rootSeed);
             GeneratorFactory generatorFactory = new GeneratorFactory();
-            Generator generator = generatorFactory.createGenerator(algorithm);
+            Generator generator = generatorFactory.createGenerator(algorithm, seeds.nextLong());
             LOGGER.info("Generating maze with algorithm: {}, width: {}, height: {}", algorithm, width, height);
-            Maze maze = generator.generate(width, height);
 
-            if (enableSurfaces) {
-                SurfaceDecorator decorator = new SurfaceDecorator();
-                maze = decorator.addSurfaces(maze);
-                LOGGER.info("Added special surfaces to the maze");
-            }
+            try (Arena arena = Arena.ofConfined()) {
+                CellGridFactory gridFactory = isOffHeapStorage(binary)
+                        ? CellGridFactory.offHeap(arena, CellEncoding.forSurfaces(enableSurfaces))
+                        : CellGridFactory.heap();
+                Maze maze = generator.generate(width, height, gridFactory);
 
-            RendererFactory rendererFactory = new RendererFactory();
-            MazeRenderer renderer = rendererFactory.createRenderer(rendererType);
-            String mazeString = renderer.render(maze);
+                if (enableSurfaces) {
+                    new SurfaceDecorator(seeds.nextLong()).addSurfacesInPlace(maze.grid());
+                    LOGGER.info("Added special surfaces to the maze");
+                }
 
-            if (outputPath != null) {
-                MazeFileHandler fileHandler = new MazeFileHandler();
-                fileHandler.write(Path.of(outputPath), mazeString);
-                LOGGER.info("Maze saved to: {}", outputPath);
-            } else {
-                System.out.print(mazeString);
+                if (binary) {
+                    new BinaryMazeFileHandler().write(Path.of(outputPath), maze.grid(), rootSeed);
+                    LOGGER.info("Maze saved to: {}, seed: {}", outputPath, rootSeed);
+                } else {
+                    writeText(maze);
+                }
             }
-
         } catch (Exception e) {
             LOGGER.error("Error generating maze", e);
             System.err.println(e.getMessage());
             System.exit(1);
         }
     }
+
+    /**
+     * Отрисовывает лабиринт в текстовый файл или в консоль.
+     *
+     * @param maze лабиринт
+     * @throws IOException если произошла ошибка записи
+     */
+    private void writeText(Maze maze) throws IOException {
+        MazeRenderer renderer = new RendererFactory().createRenderer(rendererType);
+
+        if (outputPath != null) {
+            MazeFileHandler fileHandler = new MazeFileHandler();
+            fileHandler.setCompress(gzip);
+            try (Writer writer = fileHandler.openWriter(Path.of(outputPath))) {
+                renderer.render(maze, writer);
+            }
+            LOGGER.info("Maze saved to: {}", outputPath);
+        } else {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, System.out.charset()));
+            renderer.render(maze, writer);
+            writer.flush();
+        }
+    }
+
+    /**
+     * Определяет, где хранить сетку: явно заданный {@code --storage} или вне кучи для двоичного формата, который
+     * записывается из упакованной сетки без промежуточной копии.
+     *
+     * @param binary true для двоичного формата вывода
+     * @return true для хранения вне кучи
+     */
+    private boolean isOffHeapStorage(boolean binary) {
+        if (storage == null) {
+            return binary;
+        }
+        return switch (storage.toLowerCase()) {
+            case "heap" -> false;
+            case "offheap" -> true;
+            default ->
+                throw new IllegalArgumentException(
+                        "Unknown grid storage: " + storage + ". Supported storages: heap, offheap");
+        };
+    }
+
+    /**
+     * Определяет формат вывода: явно заданный {@code --format} или двоичный для файлов с расширением {@code .mzb}.
+     *
+     * @return true для двоичного формата
+     */
+    private boolean isBinaryFormat() {
+        if (format == null) {
+            return outputPath != null && BinaryMazeFileHandler.hasBinaryExtension(Path.of(outputPath));
+        }
+        return switch (format.toLowerCase()) {
+            case "text" -> false;
+            case "binary" -> {
+                if (outputPath == null) {
+                    throw new IllegalArgumentException("Binary format requires --output");
+                }
+                yield true;
+            }
+            default ->
+                throw new IllegalArgumentException(
+                        "Unknown maze format: " + format + ". Supported formats: text, binary");
+        };
+    }
+
+    /**
+     * Генерирует лабиринт алгоритмом Эллера и пишет его в файл построчно, не храня сетку целиком.
+     *
+     * @throws IOException если произошла ошибка записи
+     */
+    private void generateStreaming() throws IOException {
+        if (!GeneratorFactory.GeneratorType.ELLER.name().equalsIgnoreCase(algorithm)) {
+            throw new IllegalArgumentException("Streaming generation is supported only by the eller algorithm");
+        }
+
+        SplittableRandom seeds = seed != null ? new SplittableRandom(seed) : new SplittableRandom();
+        EllerGenerator generator = new EllerGenerator(seeds.nextLong());
+        MazeRenderer renderer = new RendererFactory().createRenderer(rendererType);
+        SurfaceDecorator decorator = enableSurfaces ? new SurfaceDecorator(seeds.nextLong()) : null;
+        LOGGER.info("Streaming maze with algorithm: {}, width: {}, height: {}", algorithm, width, height);
+
+        MazeFileHandler fileHandler = new MazeFileHandler();
+        fileHandler.setCompress(gzip);
+        try (Writer writer = fileHandler.openWriter(Path.of(outputPath))) {
+            generator.generate(width, height, renderer, decorator, writer);
+        }
+        LOGGER.info("Maze saved to: {}", outputPath);
+    }
 }
@@ -0,0 +1,89 @@
+package academy.maze.command;
+
+import academy.maze.server.MazeRegistry;
+import academy.maze.server.MazeServer;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CountDownLatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+/** Команда для запуска HTTP-сервиса лабиринтов. Работает до завершения процесса. */
+@Command(name = "serve", description = "Run an HTTP service that generates, solves and renders mazes.")
+public class ServeCommand implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ServeCommand.class);
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    @Option(
+            names = {"--host"},
+            description = "Address to listen on",
+            defaultValue = "127.0.0.1")
+    private String host;
+
+    @Option(
+            names = {"-p", "--port"},
+            description = "Port to listen on",
+            defaultValue = "8080")
+    private int port;
+
+    @Option(
+            names = {"--cache-weight"},
+            description = "Cache solved paths up to this many path points per maze and algorithm, 0 disables the cache",
+            defaultValue = "1000000")
+    private long cacheWeight;
+
+    @Option(
+            names = {"--max-cells"},
+            description = "Keep registered mazes up to this many cells in total, least recently used mazes are evicted",
+            defaultValue = "100000000")
+    private long maxCells;
+
+    @Option(
+            names = {"--max-width"},
+            description = "Largest maze width accepted for generation and upload",
+            defaultValue = "4001")
+    private int maxWidth;
+
+    @Option(
+            names = {"--max-height"},
+            description = "Largest maze height accepted for generation and upload",
+            defaultValue = "4001")
+    private int maxHeight;
+
+    @Option(
+            names = {"--max-body-bytes"},
+            description = "Largest upload request body in bytes",
+            defaultValue = "67108864")
+    private long maxBodyBytes;
+
+    @Override
+    public void run() {
+        try {
+            // Заголовки и тело ответа уходят отдельными сегментами, и без TCP_NODELAY тело ждёт подтверждения
+            // заголовков: алгоритм Нейгла вместе с отложенным ACK клиента добавляет около 40 мс к каждому запросу.
+            // Свойство читается при создании первого HTTP-сервера в JVM, значение из -D не перезаписывается.
+            System.getProperties().putIfAbsent(NODELAY_PROPERTY, "true");
+            MazeRegistry registry = new MazeRegistry(cacheWeight, maxCells);
+            MazeServer.Limits limits = new MazeServer.Limits(maxWidth, maxHeight, maxBodyBytes);
+            MazeServer server = new MazeServer(new InetSocketAddress(host, port), registry, limits);
+            CountDownLatch stopped = new CountDownLatch(1);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.stop();
+                stopped.countDown();
+            }));
+
+            server.start();
+            System.out.println("Listening on http://" + host + ":" + server.port());
+            stopped.await();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOGGER.error("Error running maze server", e);
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+}
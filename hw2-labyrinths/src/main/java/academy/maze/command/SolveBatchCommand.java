@@ -0,0 +1,167 @@
+package academy.maze.command;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Point;
+import academy.maze.io.MazeFileHandler;
+import academy.maze.solver.BatchSolver;
+import academy.maze.solver.CachingSolver;
+import academy.maze.solver.Solver;
+import academy.maze.solver.SolverFactory;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+/**
+ * Команда для решения множества запросов к одному лабиринту. Каждая строка входа — пара точек {@code x1,y1 x2,y2},
+ * пустые строки и строки, начинающиеся с {@code #}, пропускаются. На каждый запрос выводится строка
+ * {@code <стоимость> <длина>} и, при {@code --paths}, ходы пути буквами {@code U D L R}; для запроса без пути —
+ * {@code -1 0}.
+ */
+@Command(name = "solve-batch", description = "Solve many start/end pairs on one maze in parallel.")
+public class SolveBatchCommand implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SolveBatchCommand.class);
+
+    @Option(
+            names = {"-a", "--algorithm"},
+            description = "Solving algorithm: astar, dijkstra, dial, bidirectional, bidirectional_parallel, jps, "
+                    + "junction, tree, alt",
+            required = true)
+    private String algorithm;
+
+    @Option(
+            names = {"-f", "--file"},
+            description = "Input maze file path",
+            required = true)
+    private String filePath;
+
+    @Option(
+            names = {"-q", "--queries"},
+            description = "Queries file with one 'x1,y1 x2,y2' pair per line (default: stdin)")
+    private String queriesPath;
+
+    @Option(
+            names = {"-o", "--output"},
+            description = "Output file path")
+    private String outputPath;
+
+    @Option(
+            names = {"-t", "--threads"},
+            description = "Number of worker threads (default: available processors)")
+    private Integer threads;
+
+    @Option(
+            names = {"-p", "--paths"},
+            description = "Append each path as a string of U/D/L/R moves")
+    private boolean paths;
+
+    @Option(
+            names = {"--cache-weight"},
+            description = "Cache solved paths up to this many path points in total, 0 disables the cache",
+            defaultValue = "1000000")
+    private long cacheWeight;
+
+    @Override
+    public void run() {
+        try {
+            MazeFileHandler fileHandler = new MazeFileHandler();
+            fileHandler.setEnableSurfaces(true);
+            Maze maze = fileHandler.read(Path.of(filePath));
+            List<BatchSolver.Query> queries = readQueries();
+
+            int parallelism = threads != null ? threads : Runtime.getRuntime().availableProcessors();
+            Solver solver = new SolverFactory().createSolver(algorithm);
+            CachingSolver cachingSolver = cacheWeight > 0 ? new CachingSolver(solver, cacheWeight) : null;
+            Solver querySolver = cachingSolver != null ? cachingSolver : solver;
+            BatchSolver batchSolver = new BatchSolver(querySolver, parallelism, paths);
+
+            LOGGER.info(
+                    "Solving {} queries with algorithm: {}, threads: {}", queries.size(), algorithm, parallelism);
+            BatchSolver.Result[] results = batchSolver.solve(maze, queries);
+            if (cachingSolver != null) {
+                CacheStats stats = cachingSolver.stats();
+                LOGGER.info(
+                        "Path cache hits: {}, misses: {}, evictions: {}",
+                        stats.hitCount(),
+                        stats.missCount(),
+                        stats.evictionCount());
+            }
+
+            if (outputPath != null) {
+                try (Writer writer = fileHandler.openWriter(Path.of(outputPath))) {
+                    writeResults(writer, results);
+                }
+                LOGGER.info("Results saved to: {}", outputPath);
+            } else {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, System.out.charset()));
+                writeResults(writer, results);
+                writer.flush();
+            }
+
+        } catch (Exception e) {
+            LOGGER.error("Error solving queries", e);
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private List<BatchSolver.Query> readQueries() throws IOException {
+        try (BufferedReader reader = queriesPath != null
+                ? Files.newBufferedReader(Path.of(queriesPath))
+                : new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))) {
+            List<BatchSolver.Query> queries = new ArrayList<>();
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] parts = line.split("\\s+");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException(
+                            "Invalid query at line " + lineNumber + ": " + line + ", expected format: x1,y1 x2,y2");
+                }
+                queries.add(new BatchSolver.Query(Point.parse(parts[0]), Point.parse(parts[1])));
+            }
+            return queries;
+        }
+    }
+
+    private void writeResults(Writer writer, BatchSolver.Result[] results) throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (BatchSolver.Result result : results) {
+            line.setLength(0);
+            line.append(result.cost()).append(' ').append(result.length());
+            if (paths && result.length() > 0) {
+                line.append(' ');
+                appendMoves(line, result.path().points());
+            }
+            line.append('\n');
+            writer.append(line);
+        }
+    }
+
+    private static void appendMoves(StringBuilder line, Point[] points) {
+        for (int i = 1; i < points.length; i++) {
+            int dx = points[i].x() - points[i - 1].x();
+            int dy = points[i].y() - points[i - 1].y();
+            line.append(dx > 0 ? 'R' : dx < 0 ? 'L' : dy > 0 ? 'D' : 'U');
+        }
+    }
+}
@@ -2,11 +2,16 @@ package academy.maze.command;
 
 import academy.maze.dto.Maze;
 import academy.maze.dto.Point;
+import academy.maze.io.LandmarkFileHandler;
 import academy.maze.io.MazeFileHandler;
 import academy.maze.renderer.MazeRenderer;
 import academy.maze.renderer.RendererFactory;
 import academy.maze.solver.Solver;
 import academy.maze.solver.SolverFactory;
+import academy.maze.solver.impl.AltSolver;
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.file.Path;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,7 +26,8 @@ public class SolveMazeCommand implements Runnable {
 
     @Option(
             names = {"-a", "--algorithm"},
-            description = "Solving algorithm: astar, dijkstra",
+            description = "Solving algorithm: astar, dijkstra, dial, bidirectional, bidirectional_parallel, jps, "
+                    + "junction, tree, alt",
             required = true)
     private String algorithm;
 
@@ -54,16 +60,33 @@ public class SolveMazeCommand implements Runnable {
             defaultValue = "ascii")
     private String rendererType;
 
+    @Option(
+            names = {"--landmarks"},
+            description = "For alt: reuse landmark tables saved next to the maze file, building them if missing")
+    private boolean landmarks;
+
+    @Option(
+            names = {"--gzip"},
+            description = "Compress the output file with gzip (implied by a .gz output file name)")
+    private boolean gzip;
+
     @Override
     public void run() {
         try {
             MazeFileHandler fileHandler = new MazeFileHandler();
             fileHandler.setEnableSurfaces(true);
+            fileHandler.setCompress(gzip);
             Maze maze = fileHandler.read(Path.of(filePath));
-            Point start = parsePoint(startPoint);
-            Point end = parsePoint(endPoint);
+            Point start = Point.parse(startPoint);
+            Point end = Point.parse(endPoint);
             SolverFactory solverFactory = new SolverFactory();
             Solver solver = solverFactory.createSolver(algorithm);
+            if (landmarks && solver instanceof AltSolver altSolver) {
+                altSolver.prepare(
+                        maze,
+                        new LandmarkFileHandler()
+                                .loadOrBuild(Path.of(filePath), maze.grid(), AltSolver.DEFAULT_LANDMARK_COUNT));
+            }
 
             LOGGER.info("Solving maze with algorithm: {}, start: {}, end: {}", algorithm, start, end);
             academy.maze.dto.Path path = solver.solve(maze, start, end);
@@ -76,13 +99,16 @@ public class SolveMazeCommand implements Runnable {
 
             RendererFactory rendererFactory = new RendererFactory();
             MazeRenderer renderer = rendererFactory.createRenderer(rendererType);
-            String mazeString = renderer.render(maze, path, start, end);
 
             if (outputPath != null) {
-                fileHandler.write(Path.of(outputPath), mazeString);
+                try (Writer writer = fileHandler.openWriter(Path.of(outputPath))) {
+                    renderer.render(maze, path, start, end, writer);
+                }
                 LOGGER.info("Solution saved to: {}", outputPath);
             } else {
-                System.out.print(mazeString);
+                Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, System.out.charset()));
+                renderer.render(maze, path, start, end, writer);
+                writer.flush();
             }
 
         } catch (Exception e) {
@@ -91,19 +117,4 @@ public class SolveMazeCommand implements Runnable {
             System.exit(1);
         }
     }
-
-    private Point parsePoint(String pointStr) {
-        String[] parts = pointStr.split(",");
-
-        if (parts.length != 2) {
-            throw new IllegalArgumentException("Invalid point format: " + pointStr + ", expected format: x,y");
-        }
-        try {
-            int x = Integer.parseInt(parts[0].trim());
-            int y = Integer.parseInt(parts[1].trim());
-            return new Point(x, y);
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException("Invalid point coordinates: " + pointStr, e);
-        }
-    }
 }
@@ -0,0 +1,73 @@
+package academy.maze.dto;
+
+/** Упаковка ячеек в биты для компактного хранения лабиринта. */
+public enum CellEncoding {
+    /** 2 бита на ячейку: стены, проходы, болото и песок. Монеты не помещаются. */
+    BITS_2(2),
+
+    /** 4 бита на ячейку: все типы ячеек. */
+    BITS_4(4);
+
+    private final int bitsPerCell;
+
+    CellEncoding(int bitsPerCell) {
+        this.bitsPerCell = bitsPerCell;
+    }
+
+    /**
+     * Выбирает наименьшую упаковку, способную хранить лабиринт.
+     *
+     * @param withSurfaces true, если в лабиринте есть специальные поверхности
+     * @return подходящая упаковка
+     */
+    public static CellEncoding forSurfaces(boolean withSurfaces) {
+        return withSurfaces ? BITS_4 : BITS_2;
+    }
+
+    public int bitsPerCell() {
+        return bitsPerCell;
+    }
+
+    /**
+     * Возвращает маску для извлечения одной ячейки из байта.
+     *
+     * @return маска из {@link #bitsPerCell()} единичных битов
+     */
+    public int mask() {
+        return (1 << bitsPerCell) - 1;
+    }
+
+    /**
+     * Проверяет, что тип ячейки представим в этой упаковке.
+     *
+     * @param type тип ячейки
+     * @return true, если порядковый номер типа помещается в отведённые биты
+     */
+    public boolean supports(CellType type) {
+        return type.ordinal() <= mask();
+    }
+
+    /**
+     * Вычисляет размер упакованных данных.
+     *
+     * @param cellCount количество ячеек
+     * @return количество байтов
+     */
+    public long byteSize(long cellCount) {
+        return (cellCount * bitsPerCell + Byte.SIZE - 1) / Byte.SIZE;
+    }
+
+    /**
+     * Возвращает байт, все ячейки которого имеют заданный тип.
+     *
+     * @param type тип ячейки
+     * @return заполненный байт
+     */
+    public byte fillByte(CellType type) {
+        int pattern = 0;
+        for (int shift = 0; shift < Byte.SIZE; shift += bitsPerCell) {
+            pattern |= type.ordinal() << shift;
+        }
+        return (byte) pattern;
+    }
+}
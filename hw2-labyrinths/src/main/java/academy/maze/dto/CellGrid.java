@@ -0,0 +1,80 @@
+package academy.maze.dto;
+
+/**
+ * Сетка ячеек лабиринта. Общая абстракция над способами хранения ячеек: в куче ({@link MazeGrid}) и вне кучи
+ * ({@link OffHeapMazeGrid}). Генераторы, решатели и обработчик файлов работают с лабиринтом через этот интерфейс.
+ */
+public interface CellGrid {
+
+    /** Начальное значение хеша FNV-1a. */
+    long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    /** Множитель хеша FNV-1a. */
+    long FNV_PRIME = 0x100000001b3L;
+
+    int width();
+
+    int height();
+
+    /**
+     * Возвращает общее количество ячеек. Для сеток вне кучи может превышать {@link Integer#MAX_VALUE}.
+     *
+     * @return width * height
+     */
+    default long cellCount() {
+        return (long) width() * height();
+    }
+
+    /**
+     * Проверяет, что координаты находятся внутри сетки.
+     *
+     * @param x координата x
+     * @param y координата y
+     * @return true, если ячейка существует
+     */
+    default boolean contains(int x, int y) {
+        return x >= 0 && x < width() && y >= 0 && y < height();
+    }
+
+    CellType get(int x, int y);
+
+    void set(int x, int y, CellType type);
+
+    /**
+     * Заполняет всю сетку ячейками одного типа.
+     *
+     * @param type тип ячейки
+     */
+    void fill(CellType type);
+
+    /**
+     * Считает 64-битный хеш содержимого сетки (FNV-1a по размерам и порядковым номерам типов ячеек в порядке строк).
+     * Одинаковые лабиринты дают одинаковый хеш независимо от способа хранения сетки.
+     *
+     * @return хеш содержимого
+     */
+    default long fingerprint() {
+        long hash = (((FNV_OFFSET ^ width()) * FNV_PRIME) ^ height()) * FNV_PRIME;
+        for (int y = 0; y < height(); y++) {
+            for (int x = 0; x < width(); x++) {
+                hash = (hash ^ get(x, y).ordinal()) * FNV_PRIME;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Преобразует сетку в двумерный массив ячеек.
+     *
+     * @return новый массив ячеек {@code [y][x]}
+     */
+    default CellType[][] toArray() {
+        CellType[][] result = new CellType[height()][width()];
+        for (int y = 0; y < height(); y++) {
+            for (int x = 0; x < width(); x++) {
+                result[y][x] = get(x, y);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,37 @@
+package academy.maze.dto;
+
+import java.lang.foreign.Arena;
+
+/** Способ выделения сетки лабиринта заданного размера. */
+@FunctionalInterface
+public interface CellGridFactory {
+
+    /**
+     * Создаёт сетку, заполненную стенами.
+     *
+     * @param width ширина сетки
+     * @param height высота сетки
+     * @return новая сетка
+     */
+    CellGrid create(int width, int height);
+
+    /**
+     * Сетки в куче на основе {@link MazeGrid}.
+     *
+     * @return фабрика сеток в куче
+     */
+    static CellGridFactory heap() {
+        return MazeGrid::new;
+    }
+
+    /**
+     * Сетки вне кучи, выделяемые из указанной арены.
+     *
+     * @param arena арена для выделения памяти
+     * @param encoding упаковка ячеек
+     * @return фабрика сеток вне кучи
+     */
+    static CellGridFactory offHeap(Arena arena, CellEncoding encoding) {
+        return (width, height) -> OffHeapMazeGrid.allocate(arena, width, height, encoding);
+    }
+}
@@ -17,6 +17,8 @@ public enum CellType {
     /** Монета - улучшающая поверхность, бонус за прохождение */
     COIN(0);
 
+    private static final CellType[] VALUES = values();
+
     private final int cost;
 
     CellType(int cost) {
@@ -40,4 +42,14 @@ public enum CellType {
     public boolean isPassable() {
         return this != WALL;
     }
+
+    /**
+     * Возвращает тип ячейки по порядковому номеру без копирования массива {@link #values()}.
+     *
+     * @param ordinal порядковый номер типа
+     * @return тип ячейки
+     */
+    public static CellType fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
 }
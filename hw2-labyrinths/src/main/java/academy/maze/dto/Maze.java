@@ -1,8 +1,28 @@
 package academy.maze.dto;
 
 /**
- * Лабиринт.
+ * Лабиринт. Временем жизни сетки вне кучи управляет её владелец, лабиринт лишь ссылается на неё.
  *
- * @param cells Массив ячеек лабиринта.
+ * @param grid Сетка ячеек лабиринта.
  */
-public record Maze(CellType[][] cells) {}
+public record Maze(CellGrid grid) {
+
+    /**
+     * Создаёт лабиринт из двумерного массива ячеек.
+     *
+     * @param cells Массив ячеек лабиринта {@code [y][x]}.
+     */
+    public Maze(CellType[][] cells) {
+        this(MazeGrid.of(cells));
+    }
+
+    /**
+     * Возвращает ячейки лабиринта в виде двумерного массива. Массив создаётся заново при каждом вызове, поэтому в
+     * алгоритмах следует работать напрямую с {@link #grid()}.
+     *
+     * @return копия ячеек лабиринта {@code [y][x]}
+     */
+    public CellType[][] cells() {
+        return grid.toArray();
+    }
+}
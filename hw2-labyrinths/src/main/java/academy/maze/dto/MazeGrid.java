@@ -0,0 +1,178 @@
+package academy.maze.dto;
+
+import java.util.Arrays;
+
+/**
+ * Компактная сетка ячеек лабиринта. Все ячейки хранятся в одном непрерывном массиве байтов по индексу
+ * {@code y * width + x}, каждый байт — порядковый номер {@link CellType}. По сравнению с {@code CellType[][]} занимает
+ * в 4–8 раз меньше памяти и не требует перехода по ссылке на строку при каждом обращении к ячейке.
+ */
+public final class MazeGrid implements CellGrid {
+    private static final int MAX_CELLS = Integer.MAX_VALUE - 8;
+
+    private final int width;
+    private final int height;
+    private final byte[] cells;
+
+    /**
+     * Создаёт сетку заданного размера, заполненную стенами.
+     *
+     * @param width ширина сетки
+     * @param height высота сетки
+     * @throws IllegalArgumentException если размеры отрицательны или сетка не помещается в массив
+     */
+    public MazeGrid(int width, int height) {
+        if (width < 0 || height < 0) {
+            throw new IllegalArgumentException(
+                    "Grid dimensions must not be negative: width=" + width + ", height=" + height);
+        }
+        long size = (long) width * height;
+        if (size > MAX_CELLS) {
+            throw new IllegalArgumentException("Grid is too large: width=" + width + ", height=" + height);
+        }
+
+        this.width = width;
+        this.height = height;
+        this.cells = new byte[(int) size];
+        fill(CellType.WALL);
+    }
+
+    private MazeGrid(int width, int height, byte[] cells) {
+        this.width = width;
+        this.height = height;
+        this.cells = cells;
+    }
+
+    /**
+     * Создаёт сетку из двумерного массива ячеек.
+     *
+     * @param cells прямоугольный массив ячеек {@code [y][x]}
+     * @return компактная сетка с теми же ячейками
+     * @throws IllegalArgumentException если строки массива имеют разную длину
+     */
+    public static MazeGrid of(CellType[][] cells) {
+        int height = cells.length;
+        int width = height == 0 ? 0 : cells[0].length;
+        MazeGrid grid = new MazeGrid(width, height);
+
+        for (int y = 0; y < height; y++) {
+            if (cells[y].length != width) {
+                throw new IllegalArgumentException("Maze rows must have equal length: row " + y);
+            }
+            for (int x = 0; x < width; x++) {
+                grid.set(x, y, cells[y][x]);
+            }
+        }
+
+        return grid;
+    }
+
+    /**
+     * Копирует произвольную сетку в кучу.
+     *
+     * @param source исходная сетка
+     * @return независимая копия в куче
+     */
+    public static MazeGrid copyOf(CellGrid source) {
+        if (source instanceof MazeGrid grid) {
+            return grid.copy();
+        }
+
+        MazeGrid grid = new MazeGrid(source.width(), source.height());
+        for (int y = 0; y < grid.height; y++) {
+            for (int x = 0; x < grid.width; x++) {
+                grid.set(x, y, source.get(x, y));
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Создаёт независимую копию сетки.
+     *
+     * @return копия сетки
+     */
+    public MazeGrid copy() {
+        return new MazeGrid(width, height, cells.clone());
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    /**
+     * Возвращает общее количество ячеек.
+     *
+     * @return width * height
+     */
+    public int size() {
+        return cells.length;
+    }
+
+    /**
+     * Вычисляет плоский индекс ячейки.
+     *
+     * @param x координата x
+     * @param y координата y
+     * @return индекс {@code y * width + x}
+     */
+    public int index(int x, int y) {
+        return y * width + x;
+    }
+
+    @Override
+    public boolean contains(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    @Override
+    public CellType get(int x, int y) {
+        return get(index(x, y));
+    }
+
+    public CellType get(int index) {
+        return CellType.fromOrdinal(cells[index]);
+    }
+
+    @Override
+    public void set(int x, int y, CellType type) {
+        set(index(x, y), type);
+    }
+
+    public void set(int index, CellType type) {
+        cells[index] = (byte) type.ordinal();
+    }
+
+    @Override
+    public void fill(CellType type) {
+        Arrays.fill(cells, (byte) type.ordinal());
+    }
+
+    @Override
+    public long fingerprint() {
+        long hash = (((FNV_OFFSET ^ width) * FNV_PRIME) ^ height) * FNV_PRIME;
+        for (byte cell : cells) {
+            hash = (hash ^ cell) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof MazeGrid other
+                && width == other.width
+                && height == other.height
+                && Arrays.equals(cells, other.cells);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * width + height) + Arrays.hashCode(cells);
+    }
+}
@@ -0,0 +1,175 @@
+package academy.maze.dto;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+
+/**
+ * Сетка лабиринта вне кучи на основе {@link MemorySegment}. Ячейки упакованы по 2 или 4 бита и адресуются индексом
+ * {@code long}, поэтому размер сетки не ограничен длиной Java-массива и не нагружает сборщик мусора. Память выделяется
+ * из {@link Arena} и освобождается детерминированно при закрытии арены.
+ */
+public final class OffHeapMazeGrid implements CellGrid, AutoCloseable {
+    private final int width;
+    private final int height;
+    private final CellEncoding encoding;
+    private final int bitsPerCell;
+    private final int mask;
+    private final MemorySegment segment;
+    private final Arena ownedArena;
+
+    private OffHeapMazeGrid(int width, int height, CellEncoding encoding, MemorySegment segment, Arena ownedArena) {
+        this.width = width;
+        this.height = height;
+        this.encoding = encoding;
+        this.bitsPerCell = encoding.bitsPerCell();
+        this.mask = encoding.mask();
+        this.segment = segment;
+        this.ownedArena = ownedArena;
+    }
+
+    private static OffHeapMazeGrid allocate(
+            int width, int height, CellEncoding encoding, Arena arena, boolean ownsArena) {
+        checkDimensions(width, height);
+        MemorySegment segment = arena.allocate(Math.max(1, encoding.byteSize((long) width * height)), Long.BYTES);
+        OffHeapMazeGrid grid = new OffHeapMazeGrid(width, height, encoding, segment, ownsArena ? arena : null);
+        grid.fill(CellType.WALL);
+        return grid;
+    }
+
+    private static void checkDimensions(int width, int height) {
+        if (width < 0 || height < 0) {
+            throw new IllegalArgumentException(
+                    "Grid dimensions must not be negative: width=" + width + ", height=" + height);
+        }
+    }
+
+    /**
+     * Выделяет сетку в собственной разделяемой арене. Память освобождается вызовом {@link #close()}.
+     *
+     * @param width ширина сетки
+     * @param height высота сетки
+     * @param encoding упаковка ячеек
+     * @return сетка, заполненная стенами
+     */
+    public static OffHeapMazeGrid allocate(int width, int height, CellEncoding encoding) {
+        Arena arena = Arena.ofShared();
+        try {
+            return allocate(width, height, encoding, arena, true);
+        } catch (RuntimeException | OutOfMemoryError e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Выделяет сетку во внешней арене. Памятью управляет владелец арены, {@link #close()} ничего не освобождает.
+     *
+     * @param arena арена для выделения памяти
+     * @param width ширина сетки
+     * @param height высота сетки
+     * @param encoding упаковка ячеек
+     * @return сетка, заполненная стенами
+     */
+    public static OffHeapMazeGrid allocate(Arena arena, int width, int height, CellEncoding encoding) {
+        return allocate(width, height, encoding, arena, false);
+    }
+
+    /**
+     * Отображает упакованные ячейки из файла в память и использует их как хранилище сетки без копирования. Сетка
+     * доступна только для чтения, отображение снимается вызовом {@link #close()}.
+     *
+     * @param channel канал файла, открытый для чтения
+     * @param offset смещение упакованных ячеек в файле
+     * @param width ширина сетки
+     * @param height высота сетки
+     * @param encoding упаковка ячеек
+     * @return сетка поверх файла
+     * @throws IOException если файл не удалось отобразить
+     */
+    public static OffHeapMazeGrid map(FileChannel channel, long offset, int width, int height, CellEncoding encoding)
+            throws IOException {
+        checkDimensions(width, height);
+        Arena arena = Arena.ofShared();
+        try {
+            MemorySegment segment = channel.map(
+                    FileChannel.MapMode.READ_ONLY, offset, encoding.byteSize((long) width * height), arena);
+            return new OffHeapMazeGrid(width, height, encoding, segment, arena);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    public CellEncoding encoding() {
+        return encoding;
+    }
+
+    /**
+     * Вычисляет плоский индекс ячейки.
+     *
+     * @param x координата x
+     * @param y координата y
+     * @return индекс {@code y * width + x}
+     */
+    public long index(int x, int y) {
+        return (long) y * width + x;
+    }
+
+    @Override
+    public CellType get(int x, int y) {
+        return get(index(x, y));
+    }
+
+    public CellType get(long index) {
+        long bitOffset = index * bitsPerCell;
+        int shift = (int) (bitOffset & (Byte.SIZE - 1));
+        byte packed = segment.get(ValueLayout.JAVA_BYTE, bitOffset >>> 3);
+        return CellType.fromOrdinal((packed >>> shift) & mask);
+    }
+
+    @Override
+    public void set(int x, int y, CellType type) {
+        set(index(x, y), type);
+    }
+
+    public void set(long index, CellType type) {
+        if (!encoding.supports(type)) {
+            throw new IllegalArgumentException("Cell type " + type + " is not supported by " + encoding + " encoding");
+        }
+        long bitOffset = index * bitsPerCell;
+        long byteOffset = bitOffset >>> 3;
+        int shift = (int) (bitOffset & (Byte.SIZE - 1));
+        byte packed = segment.get(ValueLayout.JAVA_BYTE, byteOffset);
+        int updated = (packed & ~(mask << shift)) | (type.ordinal() << shift);
+        segment.set(ValueLayout.JAVA_BYTE, byteOffset, (byte) updated);
+    }
+
+    @Override
+    public void fill(CellType type) {
+        if (!encoding.supports(type)) {
+            throw new IllegalArgumentException("Cell type " + type + " is not supported by " + encoding + " encoding");
+        }
+        segment.fill(encoding.fillByte(type));
+    }
+
+    /** Освобождает память сетки, если она была выделена в собственной арене. */
+    @Override
+    public void close() {
+        if (ownedArena != null) {
+            ownedArena.close();
+        }
+    }
+}
@@ -6,4 +6,27 @@ package academy.maze.dto;
  * @param x
  * @param y
  */
-public record Point(int x, int y) {}
+public record Point(int x, int y) {
+
+    /**
+     * Разбирает точку в формате {@code x,y}.
+     *
+     * @param pointStr строка с координатами
+     * @return точка
+     * @throws IllegalArgumentException если формат или координаты некорректны
+     */
+    public static Point parse(String pointStr) {
+        String[] parts = pointStr.split(",");
+
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid point format: " + pointStr + ", expected format: x,y");
+        }
+        try {
+            int x = Integer.parseInt(parts[0].trim());
+            int y = Integer.parseInt(parts[1].trim());
+            return new Point(x, y);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid point coordinates: " + pointStr, e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package academy.maze.dto;
+
+import java.util.Arrays;
+
+/**
+ * Скользящее окно из нескольких последних строк большой сетки. Снаружи выглядит как сетка полного размера, но хранит
+ * только {@code windowSize} строк, поэтому память пропорциональна ширине лабиринта, а не его площади. Строки
+ * заполняются сверху вниз: {@link #advanceTo(int)} открывает новые строки (заполненные стенами) и вытесняет старые.
+ */
+public final class RowWindowGrid implements CellGrid {
+    private final int width;
+    private final int height;
+    private final int windowSize;
+    private final byte[] rows;
+    private int head = -1;
+
+    /**
+     * Создаёт окно над сеткой заданного размера.
+     *
+     * @param width ширина сетки
+     * @param height полная высота сетки
+     * @param windowSize количество одновременно хранимых строк
+     */
+    public RowWindowGrid(int width, int height, int windowSize) {
+        if (width < 0 || height < 0 || windowSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Invalid window: width=" + width + ", height=" + height + ", window=" + windowSize);
+        }
+        this.width = width;
+        this.height = height;
+        this.windowSize = windowSize;
+        this.rows = new byte[Math.multiplyExact(width, windowSize)];
+    }
+
+    /**
+     * Сдвигает окно так, чтобы последней открытой строкой стала {@code y}. Новые строки заполняются стенами.
+     *
+     * @param y номер строки, не меньше текущей последней
+     */
+    public void advanceTo(int y) {
+        if (y < head || y >= height) {
+            throw new IllegalArgumentException("Cannot advance window from row " + head + " to row " + y);
+        }
+        for (int row = Math.max(head + 1, y - windowSize + 1); row <= y; row++) {
+            int offset = (row % windowSize) * width;
+            Arrays.fill(rows, offset, offset + width, (byte) CellType.WALL.ordinal());
+        }
+        head = y;
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    @Override
+    public CellType get(int x, int y) {
+        return CellType.fromOrdinal(rows[offset(x, y)]);
+    }
+
+    @Override
+    public void set(int x, int y, CellType type) {
+        rows[offset(x, y)] = (byte) type.ordinal();
+    }
+
+    /** Заполняет все строки, находящиеся в окне. */
+    @Override
+    public void fill(CellType type) {
+        Arrays.fill(rows, (byte) type.ordinal());
+    }
+
+    private int offset(int x, int y) {
+        if (y > head || y <= head - windowSize) {
+            throw new IllegalStateException("Row " + y + " is outside of the window ending at row " + head);
+        }
+        return (y % windowSize) * width + x;
+    }
+}
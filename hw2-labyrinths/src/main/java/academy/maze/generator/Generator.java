@@ -1,5 +1,6 @@
 package academy.maze.generator;
 
+import academy.maze.dto.CellGridFactory;
 import academy.maze.dto.Maze;
 
 /** Генератор лабиринта */
@@ -14,4 +15,15 @@ public interface Generator {
      * @throws IllegalArgumentException если невозможно сгенерировать лабиринт.
      */
     Maze generate(int width, int height);
+
+    /**
+     * Генерирует лабиринт в сетке, выделенной указанной фабрикой, например вне кучи.
+     *
+     * @param width ширина лабиринта.
+     * @param height высота лабиринта.
+     * @param gridFactory способ выделения сетки.
+     * @return лабиринт
+     * @throws IllegalArgumentException если невозможно сгенерировать лабиринт.
+     */
+    Maze generate(int width, int height, CellGridFactory gridFactory);
 }
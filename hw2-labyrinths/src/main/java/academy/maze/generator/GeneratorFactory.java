@@ -1,6 +1,9 @@
 package academy.maze.generator;
 
 import academy.maze.generator.impl.DfsGenerator;
+import academy.maze.generator.impl.DivisionGenerator;
+import academy.maze.generator.impl.EllerGenerator;
+import academy.maze.generator.impl.KruskalGenerator;
 import academy.maze.generator.impl.PrimGenerator;
 
 /** Фабрика генераторов лабиринтов. Позволяет создавать генераторы по их типу. */
@@ -17,6 +20,26 @@ public class GeneratorFactory {
         return switch (algorithm) {
             case DFS -> new DfsGenerator();
             case PRIM -> new PrimGenerator();
+            case KRUSKAL -> new KruskalGenerator();
+            case ELLER -> new EllerGenerator();
+            case DIVISION -> new DivisionGenerator();
+        };
+    }
+
+    /**
+     * Создаёт генератор по типу алгоритма, воспроизводимо строящий лабиринты по зерну.
+     *
+     * @param algorithm тип алгоритма генерации
+     * @param seed зерно генератора случайных чисел
+     * @return генератор лабиринта
+     */
+    public Generator createGenerator(GeneratorType algorithm, long seed) {
+        return switch (algorithm) {
+            case DFS -> new DfsGenerator(seed);
+            case PRIM -> new PrimGenerator(seed);
+            case KRUSKAL -> new KruskalGenerator(seed);
+            case ELLER -> new EllerGenerator(seed);
+            case DIVISION -> new DivisionGenerator(seed);
         };
     }
 
@@ -28,18 +51,36 @@ public class GeneratorFactory {
      * @throws IllegalArgumentException если алгоритм не поддерживается
      */
     public Generator createGenerator(String algorithmName) {
+        return createGenerator(parseType(algorithmName));
+    }
+
+    /**
+     * Создаёт генератор по строковому имени алгоритма, воспроизводимо строящий лабиринты по зерну.
+     *
+     * @param algorithmName имя алгоритма (регистронезависимо)
+     * @param seed зерно генератора случайных чисел
+     * @return генератор лабиринта
+     * @throws IllegalArgumentException если алгоритм не поддерживается
+     */
+    public Generator createGenerator(String algorithmName, long seed) {
+        return createGenerator(parseType(algorithmName), seed);
+    }
+
+    private GeneratorType parseType(String algorithmName) {
         try {
-            GeneratorType type = GeneratorType.valueOf(algorithmName.toUpperCase());
-            return createGenerator(type);
+            return GeneratorType.valueOf(algorithmName.toUpperCase());
         } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException(
-                    "Unknown generator algorithm: " + algorithmName + ". Supported algorithms: dfs, prim");
+            throw new IllegalArgumentException("Unknown generator algorithm: " + algorithmName
+                    + ". Supported algorithms: dfs, prim, kruskal, eller, division");
         }
     }
 
     /** Типы алгоритмов генерации лабиринтов. */
     public enum GeneratorType {
         DFS,
-        PRIM
+        PRIM,
+        KRUSKAL,
+        ELLER,
+        DIVISION
     }
 }
@@ -1,8 +1,11 @@
 package academy.maze.generator;
 
+import academy.maze.dto.CellGrid;
 import academy.maze.dto.CellType;
 import academy.maze.dto.Maze;
-import java.util.Random;
+import academy.maze.dto.MazeGrid;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Декоратор для добавления специальных поверхностей в лабиринт. Случайным образом заменяет обычные пути на специальные
@@ -10,12 +13,34 @@ import java.util.Random;
  */
 public class SurfaceDecorator {
 
-    private static final Random RANDOM = new Random();
-
     private static final float SWAMP_PROBABILITY = 1;
     private static final float SAND_PROBABILITY = 2;
     private static final float COIN_PROBABILITY = 3;
 
+    private final RandomGenerator random;
+
+    public SurfaceDecorator() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Создаёт декоратор, воспроизводимо расставляющий поверхности по зерну.
+     *
+     * @param seed зерно генератора случайных чисел
+     */
+    public SurfaceDecorator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Создаёт декоратор с заданным источником случайности.
+     *
+     * @param random источник случайности
+     */
+    public SurfaceDecorator(RandomGenerator random) {
+        this.random = random;
+    }
+
     /**
      * Добавляет случайные поверхности в лабиринт. Заменяет некоторые обычные пути (PATH) на специальные поверхности.
      *
@@ -23,20 +48,42 @@ public class SurfaceDecorator {
      * @return лабиринт с добавленными поверхностями
      */
     public Maze addSurfaces(Maze maze) {
-        CellType[][] cells = maze.cells();
-        CellType[][] newCells = new CellType[cells.length][cells[0].length];
-
-        for (int y = 0; y < cells.length; y++) {
-            for (int x = 0; x < cells[y].length; x++) {
-                if (cells[y][x] == CellType.PATH) {
-                    newCells[y][x] = getRandomSurface();
-                } else {
-                    newCells[y][x] = cells[y][x];
-                }
+        MazeGrid newGrid = MazeGrid.copyOf(maze.grid());
+
+        for (int i = 0; i < newGrid.size(); i++) {
+            if (newGrid.get(i) == CellType.PATH) {
+                newGrid.set(i, getRandomSurface());
             }
         }
 
-        return new Maze(newCells);
+        return new Maze(newGrid);
+    }
+
+    /**
+     * Добавляет случайные поверхности прямо в переданную сетку, не копируя её. Подходит для сеток вне кучи, которые
+     * не помещаются в память дважды.
+     *
+     * @param grid сетка лабиринта
+     */
+    public void addSurfacesInPlace(CellGrid grid) {
+        for (int y = 0; y < grid.height(); y++) {
+            addSurfacesToRow(grid, y);
+        }
+    }
+
+    /**
+     * Добавляет случайные поверхности в одну строку сетки. Используется при потоковой генерации, когда в памяти
+     * находятся только несколько строк.
+     *
+     * @param grid сетка лабиринта
+     * @param y номер строки
+     */
+    public void addSurfacesToRow(CellGrid grid, int y) {
+        for (int x = 0; x < grid.width(); x++) {
+            if (grid.get(x, y) == CellType.PATH) {
+                grid.set(x, y, getRandomSurface());
+            }
+        }
     }
 
     /**
@@ -45,7 +92,7 @@ public class SurfaceDecorator {
      * @return тип поверхности (PATH, SWAMP, SAND или COIN)
      */
     private CellType getRandomSurface() {
-        float chance = RANDOM.nextFloat(100);
+        float chance = random.nextFloat(100);
 
         if (chance < COIN_PROBABILITY) {
             return CellType.COIN;
@@ -1,18 +1,23 @@
 package academy.maze.generator.impl;
 
-import academy.maze.dto.CellType;
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.CellGridFactory;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Point;
 import academy.maze.generator.Generator;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Абстрактный базовый класс для генераторов лабиринтов. Реализует Template Method Pattern Содержит общую логику
  * инициализации и валидации.
+ *
+ * <p>Случайность берётся из {@link SplittableRandom}: генератор, созданный с зерном, строит один и тот же лабиринт при
+ * каждом запуске, а параллельные генераторы выделяют каждой задаче собственный поток через
+ * {@link SplittableRandom#split()}.
  */
 public abstract class AbstractMazeGenerator implements Generator {
 
-    protected final Random random;
+    protected final SplittableRandom random;
 
     static final int[][] DIRECTIONS = {
         {0, -2},
@@ -22,18 +27,32 @@ public abstract class AbstractMazeGenerator implements Generator {
     };
 
     protected AbstractMazeGenerator() {
-        this.random = new Random();
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Создаёт генератор с заданным источником случайности.
+     *
+     * @param random источник случайности
+     */
+    protected AbstractMazeGenerator(SplittableRandom random) {
+        this.random = random;
     }
 
     @Override
     public final Maze generate(int width, int height) {
+        return generate(width, height, CellGridFactory.heap());
+    }
+
+    @Override
+    public final Maze generate(int width, int height, CellGridFactory gridFactory) {
         validateDimensions(width, height);
 
-        CellType[][] cells = initializeMazeGrid(width, height);
+        CellGrid grid = initializeMazeGrid(width, height, gridFactory);
 
-        generateMazeStructure(cells, width, height);
+        generateMazeStructure(grid, width, height);
 
-        return new Maze(cells);
+        return new Maze(grid);
     }
 
     /**
@@ -41,30 +60,21 @@ public abstract class AbstractMazeGenerator implements Generator {
      *
      * @param width внутренняя ширина лабиринта
      * @param height внутренняя высота лабиринта
+     * @param gridFactory способ выделения сетки
      * @return инициализированная сетка, заполненная стенами
      */
-    protected CellType[][] initializeMazeGrid(int width, int height) {
-        int gridWidth = width + 2;
-        int gridHeight = height + 2;
-        CellType[][] cells = new CellType[gridHeight][gridWidth];
-
-        for (int y = 0; y < gridHeight; y++) {
-            for (int x = 0; x < gridWidth; x++) {
-                cells[y][x] = CellType.WALL;
-            }
-        }
-
-        return cells;
+    protected CellGrid initializeMazeGrid(int width, int height, CellGridFactory gridFactory) {
+        return gridFactory.create(width + 2, height + 2);
     }
 
     /**
      * Генерирует структуру лабиринта. Должен быть реализован в подклассах в соответствии с конкретным алгоритмом.
      *
-     * @param cells сетка ячеек лабиринта
+     * @param grid сетка ячеек лабиринта
      * @param width внутренняя ширина лабиринта
      * @param height внутренняя высота лабиринта
      */
-    protected abstract void generateMazeStructure(CellType[][] cells, int width, int height);
+    protected abstract void generateMazeStructure(CellGrid grid, int width, int height);
 
     /**
      * Проверяет корректность размеров лабиринта.
@@ -82,11 +92,37 @@ public abstract class AbstractMazeGenerator implements Generator {
     /**
      * Проверяет, что ячейка находится внутри границ лабиринта (не на краю).
      *
-     * @param cells сетка ячеек лабиринта
+     * @param grid сетка ячеек лабиринта
      * @param point проверяемая ячейка
      * @return true, если ячейка внутри границ, иначе false
      */
-    protected boolean isValidInnerCell(CellType[][] cells, Point point) {
-        return point.y() > 0 && point.y() < cells.length - 1 && point.x() > 0 && point.x() < cells[0].length - 1;
+    protected boolean isValidInnerCell(CellGrid grid, Point point) {
+        return isValidInnerCell(grid, point.x(), point.y());
+    }
+
+    /**
+     * Проверяет, что ячейка находится внутри границ лабиринта (не на краю).
+     *
+     * @param grid сетка ячеек лабиринта
+     * @param x координата x
+     * @param y координата y
+     * @return true, если ячейка внутри границ, иначе false
+     */
+    protected boolean isValidInnerCell(CellGrid grid, int x, int y) {
+        return y > 0 && y < grid.height() - 1 && x > 0 && x < grid.width() - 1;
+    }
+
+    /**
+     * Перемешивает массив на месте алгоритмом Фишера–Йетса.
+     *
+     * @param array перемешиваемый массив
+     */
+    protected void shuffle(int[] array) {
+        for (int i = array.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
     }
 }
@@ -1,60 +1,93 @@
 package academy.maze.generator.impl;
 
+import academy.maze.dto.CellGrid;
 import academy.maze.dto.CellType;
-import academy.maze.dto.Point;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Arrays;
+import java.util.SplittableRandom;
 
 /**
- * Генератор лабиринта методом поиска в глубину (DFS, Recursive Backtracking). Использует рекурсивный обход для создания
+ * Генератор лабиринта методом поиска в глубину (DFS, Recursive Backtracking). Использует обход в глубину для создания
  * извилистых коридоров с минимальным количеством тупиков.
+ *
+ * <p>Обход итеративный: вместо стека вызовов используется собственный стек индексов комнат (ячеек с нечётными
+ * координатами) на массиве {@code int[]}, поэтому глубина не ограничена размером стека потока. Посещённой считается
+ * комната, уже вырезанная в сетке, так что отдельная матрица посещений не нужна.
  */
 public class DfsGenerator extends AbstractMazeGenerator {
 
+    private static final int INITIAL_STACK_CAPACITY = 1024;
+
     public DfsGenerator() {
         super();
     }
 
-    @Override
-    protected void generateMazeStructure(CellType[][] cells, int width, int height) {
-        boolean[][] visited = new boolean[cells.length][cells[0].length];
-        carvePassagesFrom(cells, visited, new Point(1, 1));
-    }
-
     /**
-     * Рекурсивно вырезает проходы в лабиринте, начиная с текущей точки.
+     * Создаёт генератор, воспроизводимо строящий лабиринты по зерну.
      *
-     * @param cells сетка лабиринта
-     * @param visited матрица посещенных ячеек
-     * @param current текущая точка
+     * @param seed зерно генератора случайных чисел
      */
-    private void carvePassagesFrom(CellType[][] cells, boolean[][] visited, Point current) {
-        visited[current.y()][current.x()] = true;
-        cells[current.y()][current.x()] = CellType.PATH;
+    public DfsGenerator(long seed) {
+        super(new SplittableRandom(seed));
+    }
+
+    @Override
+    protected void generateMazeStructure(CellGrid grid, int width, int height) {
+        int roomsX = (width + 1) / 2;
+        long roomCount = (long) roomsX * ((height + 1) / 2);
+        if (roomCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "Maze is too large for DFS generation: width=" + width + ", height=" + height);
+        }
 
-        List<int[]> shuffledDirections = getShuffledDirections();
+        int[] stack = new int[(int) Math.min(roomCount, INITIAL_STACK_CAPACITY)];
+        int size = 0;
+        int[] order = {0, 1, 2, 3};
 
-        for (int[] direction : shuffledDirections) {
-            Point neighbor = new Point(current.x() + direction[0], current.y() + direction[1]);
+        grid.set(1, 1, CellType.PATH);
+        stack[size++] = 0;
 
-            if (isValidInnerCell(cells, neighbor) && !visited[neighbor.y()][neighbor.x()]) {
-                Point wall = new Point(current.x() + direction[0] / 2, current.y() + direction[1] / 2);
-                cells[wall.y()][wall.x()] = CellType.PATH;
+        while (size > 0) {
+            int room = stack[size - 1];
+            int x = 2 * (room % roomsX) + 1;
+            int y = 2 * (room / roomsX) + 1;
 
-                carvePassagesFrom(cells, visited, neighbor);
+            int d = carveToUnvisitedNeighbor(grid, x, y, order);
+            if (d < 0) {
+                size--;
+                continue;
             }
+
+            if (size == stack.length) {
+                stack = Arrays.copyOf(stack, (int) Math.min(roomCount, 2L * stack.length));
+            }
+            stack[size++] = room + DIRECTIONS[d][0] / 2 + DIRECTIONS[d][1] / 2 * roomsX;
         }
     }
 
     /**
-     * Возвращает список направлений в случайном порядке.
+     * Перемешивает направления и вырезает проход к первой непосещённой соседней комнате.
      *
-     * @return список направлений
+     * @param grid сетка лабиринта
+     * @param x координата x текущей комнаты
+     * @param y координата y текущей комнаты
+     * @param order переиспользуемый массив порядка направлений
+     * @return выбранное направление или -1, если все соседи уже посещены
      */
-    private List<int[]> getShuffledDirections() {
-        List<int[]> directions = new ArrayList<>(List.of(DIRECTIONS));
-        Collections.shuffle(directions, random);
-        return directions;
+    private int carveToUnvisitedNeighbor(CellGrid grid, int x, int y, int[] order) {
+        shuffle(order);
+
+        for (int d : order) {
+            int[] direction = DIRECTIONS[d];
+            int nx = x + direction[0];
+            int ny = y + direction[1];
+
+            if (isValidInnerCell(grid, nx, ny) && grid.get(nx, ny) == CellType.WALL) {
+                grid.set(x + direction[0] / 2, y + direction[1] / 2, CellType.PATH);
+                grid.set(nx, ny, CellType.PATH);
+                return d;
+            }
+        }
+
+        return -1;
     }
 }
@@ -0,0 +1,185 @@
+package academy.maze.generator.impl;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.CellType;
+import academy.maze.dto.MazeGrid;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Генератор лабиринта методом рекурсивного деления. Камера комнат делится стеной с единственным проходом, после чего
+ * обе половины делятся независимо, пока камеры не станут коридорами шириной в одну комнату.
+ *
+ * <p>Половины записывают непересекающиеся области сетки, поэтому деление выполняется параллельно как
+ * {@link RecursiveAction} в {@link ForkJoinPool}. Параллельно обрабатывается только {@link MazeGrid}: в упакованных
+ * сетках соседние ячейки делят байт, и для них те же задачи выполняются в одном потоке в том же порядке разбиения, так
+ * что лабиринт не зависит и от способа хранения сетки.
+ *
+ * <p>Перед разветвлением каждая подзадача получает свой поток случайных чисел через {@link SplittableRandom#split()}.
+ * Потоки не разделяются между нитями, а результат при заданном зерне не зависит от размера пула и порядка выполнения.
+ */
+public class DivisionGenerator extends AbstractMazeGenerator {
+
+    private static final int SEQUENTIAL_THRESHOLD = 64 * 64;
+
+    private final ForkJoinPool pool;
+
+    public DivisionGenerator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Создаёт генератор, воспроизводимо строящий лабиринты по зерну.
+     *
+     * @param seed зерно генератора случайных чисел
+     */
+    public DivisionGenerator(long seed) {
+        this(ForkJoinPool.commonPool(), seed);
+    }
+
+    /**
+     * Создаёт генератор, выполняющий деление в указанном пуле.
+     *
+     * @param pool пул потоков
+     */
+    public DivisionGenerator(ForkJoinPool pool) {
+        super();
+        this.pool = pool;
+    }
+
+    /**
+     * Создаёт генератор, выполняющий деление в указанном пуле и воспроизводимо строящий лабиринты по зерну.
+     *
+     * @param pool пул потоков
+     * @param seed зерно генератора случайных чисел
+     */
+    public DivisionGenerator(ForkJoinPool pool, long seed) {
+        super(new SplittableRandom(seed));
+        this.pool = pool;
+    }
+
+    @Override
+    protected void generateMazeStructure(CellGrid grid, int width, int height) {
+        int roomsX = (width + 1) / 2;
+        int roomsY = (height + 1) / 2;
+        ChamberTask task = new ChamberTask(grid, 0, 0, roomsX, roomsY, grid instanceof MazeGrid, random.split());
+
+        if (task.parallel) {
+            pool.invoke(task);
+        } else {
+            task.compute();
+        }
+    }
+
+    /** Камера комнат {@code [rx0, rx1) x [ry0, ry1)}, которую нужно разделить. */
+    private static final class ChamberTask extends RecursiveAction {
+        private final transient CellGrid grid;
+        private final int rx0;
+        private final int ry0;
+        private final int rx1;
+        private final int ry1;
+        private final boolean parallel;
+        private final transient SplittableRandom random;
+
+        ChamberTask(
+                CellGrid grid, int rx0, int ry0, int rx1, int ry1, boolean parallel, SplittableRandom random) {
+            this.grid = grid;
+            this.rx0 = rx0;
+            this.ry0 = ry0;
+            this.rx1 = rx1;
+            this.ry1 = ry1;
+            this.parallel = parallel;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            int w = rx1 - rx0;
+            int h = ry1 - ry0;
+            if (w == 1 || h == 1 || (long) w * h <= SEQUENTIAL_THRESHOLD) {
+                divideSequentially();
+                return;
+            }
+
+            int[] split = divide(grid, rx0, ry0, rx1, ry1, random);
+            ChamberTask first = new ChamberTask(grid, rx0, ry0, split[0], split[1], parallel, random.split());
+            ChamberTask second = new ChamberTask(grid, split[2], split[3], rx1, ry1, parallel, random.split());
+            if (parallel) {
+                invokeAll(first, second);
+            } else {
+                first.compute();
+                second.compute();
+            }
+        }
+
+        /** Делит камеру до конца в текущем потоке, используя явный стек камер вместо рекурсии. */
+        void divideSequentially() {
+            int[] stack = new int[64];
+            int size = 0;
+            stack[size++] = rx0;
+            stack[size++] = ry0;
+            stack[size++] = rx1;
+            stack[size++] = ry1;
+
+            while (size > 0) {
+                int cy1 = stack[--size];
+                int cx1 = stack[--size];
+                int cy0 = stack[--size];
+                int cx0 = stack[--size];
+
+                if (cx1 - cx0 == 1 || cy1 - cy0 == 1) {
+                    carveCorridor(grid, cx0, cy0, cx1, cy1);
+                    continue;
+                }
+
+                int[] split = divide(grid, cx0, cy0, cx1, cy1, random);
+                if (size + 8 > stack.length) {
+                    stack = Arrays.copyOf(stack, 2 * stack.length);
+                }
+                stack[size++] = cx0;
+                stack[size++] = cy0;
+                stack[size++] = split[0];
+                stack[size++] = split[1];
+                stack[size++] = split[2];
+                stack[size++] = split[3];
+                stack[size++] = cx1;
+                stack[size++] = cy1;
+            }
+        }
+    }
+
+    /**
+     * Проводит стену через камеру и вырезает в ней один проход. Стена остаётся стенами исходной сетки, вырезается
+     * только проход.
+     *
+     * @return границы половин: {@code {firstRx1, firstRy1, secondRx0, secondRy0}}
+     */
+    private static int[] divide(CellGrid grid, int rx0, int ry0, int rx1, int ry1, SplittableRandom random) {
+        int w = rx1 - rx0;
+        int h = ry1 - ry0;
+        boolean vertical = w > h || (w == h && random.nextBoolean());
+
+        if (vertical) {
+            int k = rx0 + 1 + random.nextInt(w - 1);
+            int gap = ry0 + random.nextInt(h);
+            grid.set(2 * k, 2 * gap + 1, CellType.PATH);
+            return new int[] {k, ry1, k, ry0};
+        }
+
+        int k = ry0 + 1 + random.nextInt(h - 1);
+        int gap = rx0 + random.nextInt(w);
+        grid.set(2 * gap + 1, 2 * k, CellType.PATH);
+        return new int[] {rx1, k, rx0, k};
+    }
+
+    /** Вырезает коридор шириной в одну комнату вместе с проходами между его комнатами. */
+    private static void carveCorridor(CellGrid grid, int rx0, int ry0, int rx1, int ry1) {
+        for (int y = 2 * ry0 + 1; y <= 2 * ry1 - 1; y++) {
+            for (int x = 2 * rx0 + 1; x <= 2 * rx1 - 1; x++) {
+                grid.set(x, y, CellType.PATH);
+            }
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package academy.maze.generator.impl;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.CellType;
+import academy.maze.dto.RowWindowGrid;
+import academy.maze.generator.SurfaceDecorator;
+import academy.maze.renderer.MazeRenderer;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Генератор лабиринта алгоритмом Эллера. Лабиринт строится строка за строкой: для комнат текущей строки хранятся только
+ * метки множеств, соседние комнаты из разных множеств случайно объединяются, и каждое множество хотя бы одной комнатой
+ * продолжается вниз. Последняя строка объединяет все оставшиеся множества.
+ *
+ * <p>Помимо обычной генерации в сетку поддерживает потоковую запись: готовые строки сразу отрисовываются и
+ * отправляются в {@link Writer}, а в памяти остаются только три строки сетки. Память O(ширина) при любой высоте.
+ */
+public class EllerGenerator extends AbstractMazeGenerator {
+
+    private static final int NO_SET = -1;
+    private static final int RENDER_WINDOW = 3;
+
+    public EllerGenerator() {
+        super();
+    }
+
+    /**
+     * Создаёт генератор, воспроизводимо строящий лабиринты по зерну.
+     *
+     * @param seed зерно генератора случайных чисел
+     */
+    public EllerGenerator(long seed) {
+        super(new SplittableRandom(seed));
+    }
+
+    @Override
+    protected void generateMazeStructure(CellGrid grid, int width, int height) {
+        RowState state = new RowState((width + 1) / 2);
+        int roomsY = (height + 1) / 2;
+
+        for (int ry = 0; ry < roomsY; ry++) {
+            boolean last = ry == roomsY - 1;
+            state.carveRow(grid, 2 * ry + 1, last);
+            if (!last) {
+                state.carveDown(grid, 2 * ry + 2);
+            }
+        }
+    }
+
+    /**
+     * Генерирует лабиринт и построчно записывает его в поток, не храня сетку целиком.
+     *
+     * @param width ширина лабиринта
+     * @param height высота лабиринта
+     * @param renderer рендерер, задающий символы ячеек
+     * @param decorator декоратор поверхностей или null, если поверхности не нужны
+     * @param writer поток для записи
+     * @throws IOException если произошла ошибка записи
+     * @throws IllegalArgumentException если размеры некорректны
+     */
+    public void generate(int width, int height, MazeRenderer renderer, SurfaceDecorator decorator, Writer writer)
+            throws IOException {
+        validateDimensions(width, height);
+
+        int gridHeight = height + 2;
+        RowWindowGrid window = new RowWindowGrid(width + 2, gridHeight, RENDER_WINDOW);
+        RowWriter rowWriter = new RowWriter(window, renderer, decorator, writer);
+        RowState state = new RowState((width + 1) / 2);
+        int roomsY = (height + 1) / 2;
+
+        window.advanceTo(0);
+        for (int ry = 0; ry < roomsY; ry++) {
+            boolean last = ry == roomsY - 1;
+            int y = 2 * ry + 1;
+
+            window.advanceTo(y);
+            state.carveRow(window, y, last);
+            rowWriter.write(y - 1);
+
+            window.advanceTo(y + 1);
+            if (!last) {
+                state.carveDown(window, y + 1);
+            }
+            rowWriter.write(y);
+        }
+
+        for (int y = 2 * roomsY; y < gridHeight; y++) {
+            if (y + 1 < gridHeight) {
+                window.advanceTo(y + 1);
+            }
+            rowWriter.write(y);
+        }
+    }
+
+    /** Состояние текущей строки комнат: метки множеств и пул свободных меток. */
+    private final class RowState {
+        private final int roomsX;
+        private final int[] sets;
+        private final UnionFind labels;
+        private final int[] remaining;
+        private final boolean[] continued;
+        private final int[] freeLabels;
+        private int freeCount;
+
+        RowState(int roomsX) {
+            this.roomsX = roomsX;
+            this.sets = new int[roomsX];
+            this.labels = new UnionFind(roomsX);
+            this.remaining = new int[roomsX];
+            this.continued = new boolean[roomsX];
+            this.freeLabels = new int[roomsX];
+
+            Arrays.fill(sets, NO_SET);
+            for (int i = 0; i < roomsX; i++) {
+                freeLabels[i] = roomsX - 1 - i;
+            }
+            this.freeCount = roomsX;
+        }
+
+        /**
+         * Вырезает комнаты строки и случайные проходы между соседними комнатами из разных множеств.
+         *
+         * @param grid сетка лабиринта
+         * @param y строка сетки с комнатами
+         * @param last true для последней строки, где объединяются все множества
+         */
+        void carveRow(CellGrid grid, int y, boolean last) {
+            labels.reset();
+            for (int i = 0; i < roomsX; i++) {
+                if (sets[i] == NO_SET) {
+                    sets[i] = freeLabels[--freeCount];
+                }
+                grid.set(2 * i + 1, y, CellType.PATH);
+            }
+
+            for (int i = 0; i < roomsX - 1; i++) {
+                if (labels.find(sets[i]) != labels.find(sets[i + 1]) && (last || random.nextBoolean())) {
+                    labels.union(sets[i], sets[i + 1]);
+                    grid.set(2 * i + 2, y, CellType.PATH);
+                }
+            }
+
+            for (int i = 0; i < roomsX; i++) {
+                sets[i] = labels.find(sets[i]);
+            }
+        }
+
+        /**
+         * Случайно продолжает множества вниз, гарантируя хотя бы один проход для каждого множества. Комнаты без прохода
+         * вниз теряют метку, освободившиеся метки возвращаются в пул.
+         *
+         * @param grid сетка лабиринта
+         * @param y строка сетки под комнатами
+         */
+        void carveDown(CellGrid grid, int y) {
+            for (int i = 0; i < roomsX; i++) {
+                remaining[sets[i]]++;
+            }
+
+            for (int i = 0; i < roomsX; i++) {
+                int set = sets[i];
+                remaining[set]--;
+                if (random.nextBoolean() || (remaining[set] == 0 && !continued[set])) {
+                    continued[set] = true;
+                    grid.set(2 * i + 1, y, CellType.PATH);
+                } else {
+                    sets[i] = NO_SET;
+                }
+            }
+
+            Arrays.fill(continued, false);
+            for (int set : sets) {
+                if (set != NO_SET) {
+                    remaining[set]++;
+                }
+            }
+
+            freeCount = 0;
+            for (int label = 0; label < roomsX; label++) {
+                if (remaining[label] == 0) {
+                    freeLabels[freeCount++] = label;
+                }
+                remaining[label] = 0;
+            }
+        }
+    }
+
+    /** Отрисовывает готовые строки окна и пишет их в поток через переиспользуемый буфер. */
+    private static final class RowWriter {
+        private final RowWindowGrid window;
+        private final MazeRenderer renderer;
+        private final SurfaceDecorator decorator;
+        private final Writer writer;
+        private final char[] row;
+
+        RowWriter(RowWindowGrid window, MazeRenderer renderer, SurfaceDecorator decorator, Writer writer) {
+            this.window = window;
+            this.renderer = renderer;
+            this.decorator = decorator;
+            this.writer = writer;
+            this.row = new char[window.width()];
+        }
+
+        void write(int y) throws IOException {
+            if (decorator != null) {
+                decorator.addSurfacesToRow(window, y);
+            }
+            renderer.renderRow(window, y, row);
+            writer.write(row);
+            writer.write('\n');
+        }
+    }
+}
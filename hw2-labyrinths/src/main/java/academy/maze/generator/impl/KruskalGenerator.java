@@ -0,0 +1,94 @@
+package academy.maze.generator.impl;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.CellType;
+import java.util.SplittableRandom;
+
+/**
+ * Генератор лабиринта рандомизированным алгоритмом Краскала. Все стены между соседними комнатами перемешиваются один
+ * раз, затем стена убирается, если разделяемые ею комнаты ещё не связаны. Связность отслеживается системой
+ * непересекающихся множеств на массиве {@code int[]}.
+ *
+ * <p>В отличие от DFS и Прима у алгоритма нет последовательной границы, поэтому стены можно обрабатывать пакетами.
+ * Лабиринт получается с большим количеством коротких тупиков.
+ */
+public class KruskalGenerator extends AbstractMazeGenerator {
+
+    public KruskalGenerator() {
+        super();
+    }
+
+    /**
+     * Создаёт генератор, воспроизводимо строящий лабиринты по зерну.
+     *
+     * @param seed зерно генератора случайных чисел
+     */
+    public KruskalGenerator(long seed) {
+        super(new SplittableRandom(seed));
+    }
+
+    @Override
+    protected void generateMazeStructure(CellGrid grid, int width, int height) {
+        int roomsX = (width + 1) / 2;
+        int roomsY = (height + 1) / 2;
+        long roomCount = (long) roomsX * roomsY;
+        long wallCount = (long) roomsY * (roomsX - 1) + (long) roomsX * (roomsY - 1);
+        if (2 * roomCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "Maze is too large for Kruskal generation: width=" + width + ", height=" + height);
+        }
+
+        for (int y = 1; y < grid.height() - 1; y += 2) {
+            for (int x = 1; x < grid.width() - 1; x += 2) {
+                grid.set(x, y, CellType.PATH);
+            }
+        }
+
+        int[] walls = collectWalls((int) wallCount, roomsX, roomsY);
+        shuffle(walls);
+
+        UnionFind sets = new UnionFind((int) roomCount);
+        long remaining = roomCount - 1;
+
+        for (int i = 0; i < walls.length && remaining > 0; i++) {
+            int room = walls[i] >>> 1;
+            boolean vertical = (walls[i] & 1) == 1;
+            int neighbor = vertical ? room + roomsX : room + 1;
+
+            if (sets.union(room, neighbor)) {
+                int x = 2 * (room % roomsX) + 1;
+                int y = 2 * (room / roomsX) + 1;
+                grid.set(vertical ? x : x + 1, vertical ? y + 1 : y, CellType.PATH);
+                remaining--;
+            }
+        }
+    }
+
+    /**
+     * Собирает все внутренние стены между соседними комнатами. Стена кодируется как {@code room * 2 + orientation}, где
+     * orientation = 0 — стена справа от комнаты, 1 — стена снизу.
+     *
+     * @param wallCount количество стен
+     * @param roomsX количество комнат в строке
+     * @param roomsY количество строк комнат
+     * @return массив закодированных стен
+     */
+    private int[] collectWalls(int wallCount, int roomsX, int roomsY) {
+        int[] walls = new int[wallCount];
+        int size = 0;
+
+        for (int ry = 0; ry < roomsY; ry++) {
+            for (int rx = 0; rx < roomsX; rx++) {
+                int room = ry * roomsX + rx;
+                if (rx < roomsX - 1) {
+                    walls[size++] = room << 1;
+                }
+                if (ry < roomsY - 1) {
+                    walls[size++] = (room << 1) | 1;
+                }
+            }
+        }
+
+        return walls;
+    }
+}
@@ -1,86 +1,144 @@
 package academy.maze.generator.impl;
 
+import academy.maze.dto.CellGrid;
 import academy.maze.dto.CellType;
-import academy.maze.dto.Point;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.SplittableRandom;
 
 /**
  * Генератор лабиринта алгоритмом Прима. Создает более сбалансированную структуру с большим количеством тупиков и
  * ответвлений.
+ *
+ * <p>Граница хранится в массиве {@code int[]} индексов комнат (ячеек с нечётными координатами): случайная комната
+ * извлекается обменом с последней, а принадлежность границе отмечается в {@link BitSet}. Обе операции выполняются за
+ * O(1), поэтому генерация линейна по числу ячеек.
  */
 public class PrimGenerator extends AbstractMazeGenerator {
 
+    private static final int INITIAL_FRONTIER_CAPACITY = 1024;
+
     public PrimGenerator() {
         super();
     }
 
-    @Override
-    protected void generateMazeStructure(CellType[][] cells, int width, int height) {
-        List<Point> frontiers = new ArrayList<>();
-
-        Point start = new Point(1, 1);
-        cells[start.y()][start.x()] = CellType.PATH;
+    /**
+     * Создаёт генератор, воспроизводимо строящий лабиринты по зерну.
+     *
+     * @param seed зерно генератора случайных чисел
+     */
+    public PrimGenerator(long seed) {
+        super(new SplittableRandom(seed));
+    }
 
-        addFrontiers(cells, start, frontiers);
+    @Override
+    protected void generateMazeStructure(CellGrid grid, int width, int height) {
+        int roomsX = (width + 1) / 2;
+        long roomCount = (long) roomsX * ((height + 1) / 2);
+        if (roomCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "Maze is too large for Prim generation: width=" + width + ", height=" + height);
+        }
 
-        while (!frontiers.isEmpty()) {
-            Point frontier = frontiers.remove(random.nextInt(frontiers.size()));
+        Frontier frontier = new Frontier((int) roomCount);
 
-            List<Point> neighbors = getPathNeighbors(cells, frontier);
+        grid.set(1, 1, CellType.PATH);
+        addFrontiers(grid, 1, 1, frontier, roomsX);
 
-            if (!neighbors.isEmpty()) {
-                Point neighbor = neighbors.get(random.nextInt(neighbors.size()));
+        while (!frontier.isEmpty()) {
+            int room = frontier.removeAt(random.nextInt(frontier.size()));
 
-                cells[frontier.y()][frontier.x()] = CellType.PATH;
+            int x = 2 * (room % roomsX) + 1;
+            int y = 2 * (room / roomsX) + 1;
+            int d = getRandomPathNeighbor(grid, x, y);
 
-                int wallX = frontier.x() + (neighbor.x() - frontier.x()) / 2;
-                int wallY = frontier.y() + (neighbor.y() - frontier.y()) / 2;
-                cells[wallY][wallX] = CellType.PATH;
+            if (d >= 0) {
+                grid.set(x, y, CellType.PATH);
+                grid.set(x + DIRECTIONS[d][0] / 2, y + DIRECTIONS[d][1] / 2, CellType.PATH);
 
-                addFrontiers(cells, frontier, frontiers);
+                addFrontiers(grid, x, y, frontier, roomsX);
             }
         }
     }
 
     /**
-     * Добавляет соседние клетки на расстоянии 2 от текущей в список frontiers.
+     * Добавляет соседние клетки на расстоянии 2 от текущей в границу.
      *
-     * @param cells сетка лабиринта
-     * @param cell текущая ячейка
-     * @param frontiers список frontier клеток
+     * @param grid сетка лабиринта
+     * @param x координата x текущей ячейки
+     * @param y координата y текущей ячейки
+     * @param frontier граница
+     * @param roomsX количество комнат в строке
      */
-    private void addFrontiers(CellType[][] cells, Point cell, List<Point> frontiers) {
+    private void addFrontiers(CellGrid grid, int x, int y, Frontier frontier, int roomsX) {
         for (int[] dir : DIRECTIONS) {
-            Point neighbor = new Point(cell.x() + dir[0], cell.y() + dir[1]);
+            int nx = x + dir[0];
+            int ny = y + dir[1];
 
-            if (isValidInnerCell(cells, neighbor)
-                    && cells[neighbor.y()][neighbor.x()] == CellType.WALL
-                    && !frontiers.contains(neighbor)) {
-                frontiers.add(neighbor);
+            if (isValidInnerCell(grid, nx, ny) && grid.get(nx, ny) == CellType.WALL) {
+                frontier.add((ny / 2) * roomsX + nx / 2);
             }
         }
     }
 
     /**
-     * Находит соседние клетки типа PATH на расстоянии 2 от указанной клетки.
+     * Выбирает случайную соседнюю клетку типа PATH на расстоянии 2 от указанной (выборка с резервуаром).
      *
-     * @param cells сетка лабиринта
-     * @param cell текущая ячейка
-     * @return список соседних PATH клеток
+     * @param grid сетка лабиринта
+     * @param x координата x текущей ячейки
+     * @param y координата y текущей ячейки
+     * @return индекс направления в {@link #DIRECTIONS} или -1, если соседей нет
      */
-    private List<Point> getPathNeighbors(CellType[][] cells, Point cell) {
-        List<Point> neighbors = new ArrayList<>();
+    private int getRandomPathNeighbor(CellGrid grid, int x, int y) {
+        int chosen = -1;
+        int count = 0;
 
-        for (int[] dir : DIRECTIONS) {
-            int nx = cell.x() + dir[0];
-            int ny = cell.y() + dir[1];
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            int nx = x + DIRECTIONS[d][0];
+            int ny = y + DIRECTIONS[d][1];
+
+            if (isValidInnerCell(grid, nx, ny) && grid.get(nx, ny) == CellType.PATH && random.nextInt(++count) == 0) {
+                chosen = d;
+            }
+        }
+
+        return chosen;
+    }
+
+    /** Граница алгоритма Прима: массив индексов комнат с удалением обменом и битовой отметкой принадлежности. */
+    private static final class Frontier {
+        private final BitSet marked;
+        private int[] rooms;
+        private int size;
+
+        Frontier(int roomCount) {
+            this.marked = new BitSet(roomCount);
+            this.rooms = new int[Math.min(roomCount, INITIAL_FRONTIER_CAPACITY)];
+        }
 
-            if (isValidInnerCell(cells, new Point(nx, ny)) && cells[ny][nx] == CellType.PATH) {
-                neighbors.add(new Point(nx, ny));
+        void add(int room) {
+            if (marked.get(room)) {
+                return;
             }
+            marked.set(room);
+            if (size == rooms.length) {
+                rooms = Arrays.copyOf(rooms, 2 * rooms.length);
+            }
+            rooms[size++] = room;
+        }
+
+        int removeAt(int i) {
+            int room = rooms[i];
+            rooms[i] = rooms[--size];
+            return room;
         }
 
-        return neighbors;
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
     }
 }
@@ -0,0 +1,71 @@
+package academy.maze.generator.impl;
+
+import java.util.Arrays;
+
+/**
+ * Система непересекающихся множеств на примитивных массивах. Объединение по рангу и сжатие пути делением пополам дают
+ * почти константное время операций без рекурсии и без выделения памяти.
+ */
+final class UnionFind {
+    private final int[] parent;
+    private final byte[] rank;
+
+    /**
+     * Создаёт систему из одноэлементных множеств.
+     *
+     * @param size количество элементов
+     */
+    UnionFind(int size) {
+        this.parent = new int[size];
+        this.rank = new byte[size];
+        reset();
+    }
+
+    /** Возвращает все элементы в одноэлементные множества без выделения памяти. */
+    void reset() {
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+        Arrays.fill(rank, (byte) 0);
+    }
+
+    /**
+     * Находит представителя множества, попутно укорачивая путь вдвое.
+     *
+     * @param element элемент
+     * @return представитель множества
+     */
+    int find(int element) {
+        int current = element;
+        while (parent[current] != current) {
+            parent[current] = parent[parent[current]];
+            current = parent[current];
+        }
+        return current;
+    }
+
+    /**
+     * Объединяет множества двух элементов.
+     *
+     * @param a первый элемент
+     * @param b второй элемент
+     * @return true, если элементы были в разных множествах
+     */
+    boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return false;
+        }
+
+        if (rank[rootA] < rank[rootB]) {
+            parent[rootA] = rootB;
+        } else if (rank[rootA] > rank[rootB]) {
+            parent[rootB] = rootA;
+        } else {
+            parent[rootB] = rootA;
+            rank[rootA]++;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,172 @@
+package academy.maze.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Вспомогательные методы для двоичных файлов: массивы пишутся и читаются через канал блоками фиксированного буфера,
+ * без поэлементных вызовов потока.
+ */
+final class BinaryChannels {
+
+    /** Размер буфера для блочного чтения и записи. */
+    static final int CHUNK_BYTES = 1 << 20;
+
+    private BinaryChannels() {}
+
+    /**
+     * Открывает файл для записи с нуля, создавая недостающие каталоги.
+     *
+     * @param filePath путь к файлу
+     * @return канал, который нужно закрыть
+     * @throws IOException если файл не удалось открыть
+     */
+    static FileChannel openForWrite(Path filePath) throws IOException {
+        Path parent = filePath.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return FileChannel.open(
+                filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Дописывает массив в буфер записи, сбрасывая заполненный буфер в канал.
+     *
+     * @param channel канал записи
+     * @param buffer буфер в режиме записи
+     * @param values значения
+     * @throws IOException если произошла ошибка записи
+     */
+    static void writeInts(FileChannel channel, ByteBuffer buffer, int[] values) throws IOException {
+        int offset = 0;
+        while (offset < values.length) {
+            ensureRemaining(channel, buffer, Integer.BYTES);
+            IntBuffer ints = buffer.asIntBuffer();
+            int count = Math.min(ints.remaining(), values.length - offset);
+            ints.put(values, offset, count);
+            buffer.position(buffer.position() + count * Integer.BYTES);
+            offset += count;
+        }
+    }
+
+    /**
+     * Дописывает массив байтов в буфер записи, сбрасывая заполненный буфер в канал.
+     *
+     * @param channel канал записи
+     * @param buffer буфер в режиме записи
+     * @param values значения
+     * @throws IOException если произошла ошибка записи
+     */
+    static void writeBytes(FileChannel channel, ByteBuffer buffer, byte[] values) throws IOException {
+        int offset = 0;
+        while (offset < values.length) {
+            ensureRemaining(channel, buffer, 1);
+            int count = Math.min(buffer.remaining(), values.length - offset);
+            buffer.put(values, offset, count);
+            offset += count;
+        }
+    }
+
+    /**
+     * Сбрасывает буфер в канал, если в нём осталось меньше {@code bytes} свободных байтов.
+     *
+     * @param channel канал записи
+     * @param buffer буфер в режиме записи
+     * @param bytes сколько байтов нужно дописать
+     * @throws IOException если произошла ошибка записи
+     */
+    static void ensureRemaining(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush(channel, buffer);
+        }
+    }
+
+    /**
+     * Записывает содержимое буфера в канал и очищает буфер.
+     *
+     * @param channel канал записи
+     * @param buffer буфер в режиме записи
+     * @throws IOException если произошла ошибка записи
+     */
+    static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Читает массив из канала через буфер. Непрочитанный остаток буфера сохраняется для следующих вызовов.
+     *
+     * @param channel канал чтения
+     * @param buffer буфер в режиме чтения
+     * @param length число значений
+     * @param filePath путь к файлу для сообщения об ошибке
+     * @return прочитанные значения
+     * @throws IOException если файл закончился раньше времени
+     */
+    static int[] readInts(FileChannel channel, ByteBuffer buffer, int length, Path filePath) throws IOException {
+        int[] values = new int[length];
+        int offset = 0;
+        while (offset < length) {
+            fill(channel, buffer, Integer.BYTES, filePath);
+            IntBuffer ints = buffer.asIntBuffer();
+            int count = Math.min(ints.remaining(), length - offset);
+            ints.get(values, offset, count);
+            buffer.position(buffer.position() + count * Integer.BYTES);
+            offset += count;
+        }
+        return values;
+    }
+
+    /**
+     * Читает массив байтов из канала через буфер.
+     *
+     * @param channel канал чтения
+     * @param buffer буфер в режиме чтения
+     * @param length число байтов
+     * @param filePath путь к файлу для сообщения об ошибке
+     * @return прочитанные байты
+     * @throws IOException если файл закончился раньше времени
+     */
+    static byte[] readBytes(FileChannel channel, ByteBuffer buffer, int length, Path filePath) throws IOException {
+        byte[] values = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            fill(channel, buffer, 1, filePath);
+            int count = Math.min(buffer.remaining(), length - offset);
+            buffer.get(values, offset, count);
+            offset += count;
+        }
+        return values;
+    }
+
+    /**
+     * Дочитывает в буфер данные из канала, пока в нём не окажется хотя бы {@code bytes} байтов.
+     *
+     * @param channel канал чтения
+     * @param buffer буфер в режиме чтения
+     * @param bytes сколько байтов нужно
+     * @param filePath путь к файлу для сообщения об ошибке
+     * @throws IOException если файл закончился раньше времени
+     */
+    static void fill(FileChannel channel, ByteBuffer buffer, int bytes, Path filePath) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of file: " + filePath);
+            }
+        }
+        buffer.flip();
+    }
+}
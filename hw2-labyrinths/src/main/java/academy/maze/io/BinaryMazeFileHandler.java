@@ -0,0 +1,222 @@
+package academy.maze.io;
+
+import academy.maze.dto.CellEncoding;
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.Maze;
+import academy.maze.dto.OffHeapMazeGrid;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Обработчик лабиринтов в двоичном формате {@code .mzb}. Файл начинается с заголовка размером в одну страницу:
+ * сигнатура {@code MZB1} (последний символ — версия формата), ширина, высота, число битов на ячейку, зерно генерации и
+ * контрольная сумма CRC32C упакованных ячеек, все числа в порядке big-endian. С границы страницы идут ячейки,
+ * упакованные по 2 или 4 бита так же, как в {@link OffHeapMazeGrid}, поэтому при чтении файл отображается в память и
+ * служит хранилищем сетки без разбора и копирования.
+ */
+public class BinaryMazeFileHandler {
+
+    /** Расширение файлов двоичного формата. */
+    public static final String EXTENSION = ".mzb";
+
+    /** Значение зерна для лабиринтов, зерно генерации которых неизвестно. */
+    public static final long UNKNOWN_SEED = 0;
+
+    private static final int MAGIC = 0x4d5a4231;
+    private static final int HEADER_FIELDS_BYTES = Integer.BYTES * 4 + Long.BYTES * 2;
+    private static final int DATA_OFFSET = 4096;
+
+    /**
+     * Проверяет, выбран ли двоичный формат по расширению файла.
+     *
+     * @param filePath путь к файлу
+     * @return true, если имя файла оканчивается на {@code .mzb}
+     */
+    public static boolean hasBinaryExtension(Path filePath) {
+        return filePath.getFileName().toString().toLowerCase().endsWith(EXTENSION);
+    }
+
+    /**
+     * Проверяет по сигнатуре, что файл записан в двоичном формате.
+     *
+     * @param filePath путь к файлу
+     * @return true, если файл начинается с сигнатуры {@code MZB1}
+     * @throws IOException если файл не удалось прочитать
+     */
+    public boolean isBinary(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES);
+            return channel.read(buffer, 0) == Integer.BYTES && buffer.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Записывает лабиринт в файл. Упаковка выбирается наименьшей, способной хранить все ячейки сетки.
+     *
+     * @param filePath путь к файлу
+     * @param grid сетка лабиринта
+     * @param seed зерно генерации или {@link #UNKNOWN_SEED}
+     * @throws IOException если произошла ошибка записи
+     */
+    public void write(Path filePath, CellGrid grid, long seed) throws IOException {
+        CellEncoding encoding = encodingFor(grid);
+        int bitsPerCell = encoding.bitsPerCell();
+        CRC32C checksum = new CRC32C();
+
+        try (FileChannel channel = BinaryChannels.openForWrite(filePath)) {
+            channel.position(DATA_OFFSET);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BinaryChannels.CHUNK_BYTES);
+            int packed = 0;
+            int shift = 0;
+            for (int y = 0; y < grid.height(); y++) {
+                for (int x = 0; x < grid.width(); x++) {
+                    packed |= grid.get(x, y).ordinal() << shift;
+                    shift += bitsPerCell;
+                    if (shift == Byte.SIZE) {
+                        putChecked(channel, buffer, checksum, (byte) packed);
+                        packed = 0;
+                        shift = 0;
+                    }
+                }
+            }
+            if (shift > 0) {
+                putChecked(channel, buffer, checksum, (byte) packed);
+            }
+            flushChecked(channel, buffer, checksum);
+
+            ByteBuffer header = ByteBuffer.allocate(DATA_OFFSET)
+                    .putInt(MAGIC)
+                    .putInt(grid.width())
+                    .putInt(grid.height())
+                    .putInt(bitsPerCell)
+                    .putLong(seed)
+                    .putLong(checksum.getValue())
+                    .clear();
+            channel.position(0);
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+        }
+    }
+
+    /**
+     * Читает лабиринт из файла. Ячейки не копируются: сетка отображает файл в память и доступна только для чтения,
+     * отображение живёт до закрытия сетки ({@link OffHeapMazeGrid#close()}). Перед отображением сверяется контрольная
+     * сумма.
+     *
+     * @param filePath путь к файлу
+     * @return лабиринт поверх файла
+     * @throws IOException если файл повреждён или произошла ошибка чтения
+     */
+    public Maze read(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            Header header = readHeader(channel, filePath);
+            verifyChecksum(channel, header, filePath);
+            return new Maze(
+                    OffHeapMazeGrid.map(channel, DATA_OFFSET, header.width(), header.height(), header.encoding()));
+        }
+    }
+
+    /**
+     * Читает только заголовок файла.
+     *
+     * @param filePath путь к файлу
+     * @return заголовок
+     * @throws IOException если файл повреждён или произошла ошибка чтения
+     */
+    public Header readHeader(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return readHeader(channel, filePath);
+        }
+    }
+
+    private static Header readHeader(FileChannel channel, Path filePath) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_FIELDS_BYTES).flip();
+        BinaryChannels.fill(channel, buffer, HEADER_FIELDS_BYTES, filePath);
+
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a binary maze file: " + filePath);
+        }
+        int width = buffer.getInt();
+        int height = buffer.getInt();
+        int bitsPerCell = buffer.getInt();
+        long seed = buffer.getLong();
+        long checksum = buffer.getLong();
+
+        CellEncoding encoding = null;
+        for (CellEncoding candidate : CellEncoding.values()) {
+            if (candidate.bitsPerCell() == bitsPerCell) {
+                encoding = candidate;
+            }
+        }
+        if (encoding == null
+                || width < 0
+                || height < 0
+                || channel.size() != DATA_OFFSET + encoding.byteSize((long) width * height)) {
+            throw new IOException("Corrupted binary maze file: " + filePath);
+        }
+        return new Header(width, height, encoding, seed, checksum);
+    }
+
+    private static void verifyChecksum(FileChannel channel, Header header, Path filePath) throws IOException {
+        CRC32C checksum = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BinaryChannels.CHUNK_BYTES);
+        long position = DATA_OFFSET;
+        long end = channel.size();
+        while (position < end) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of file: " + filePath);
+            }
+            buffer.flip();
+            checksum.update(buffer);
+            position += read;
+        }
+        if (checksum.getValue() != header.checksum()) {
+            throw new IOException("Checksum mismatch in binary maze file: " + filePath);
+        }
+    }
+
+    private static CellEncoding encodingFor(CellGrid grid) {
+        if (grid instanceof OffHeapMazeGrid offHeapGrid) {
+            return offHeapGrid.encoding();
+        }
+        for (int y = 0; y < grid.height(); y++) {
+            for (int x = 0; x < grid.width(); x++) {
+                if (!CellEncoding.BITS_2.supports(grid.get(x, y))) {
+                    return CellEncoding.BITS_4;
+                }
+            }
+        }
+        return CellEncoding.BITS_2;
+    }
+
+    private static void putChecked(FileChannel channel, ByteBuffer buffer, CRC32C checksum, byte value)
+            throws IOException {
+        if (!buffer.hasRemaining()) {
+            flushChecked(channel, buffer, checksum);
+        }
+        buffer.put(value);
+    }
+
+    private static void flushChecked(FileChannel channel, ByteBuffer buffer, CRC32C checksum) throws IOException {
+        checksum.update(buffer.duplicate().flip());
+        BinaryChannels.flush(channel, buffer);
+    }
+
+    /**
+     * Заголовок двоичного файла лабиринта.
+     *
+     * @param width ширина сетки
+     * @param height высота сетки
+     * @param encoding упаковка ячеек
+     * @param seed зерно генерации или {@link #UNKNOWN_SEED}
+     * @param checksum контрольная сумма CRC32C упакованных ячеек
+     */
+    public record Header(int width, int height, CellEncoding encoding, long seed, long checksum) {}
+}
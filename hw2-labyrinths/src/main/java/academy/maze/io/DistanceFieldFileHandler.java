@@ -0,0 +1,72 @@
+package academy.maze.io;
+
+import academy.maze.dto.Point;
+import academy.maze.solver.impl.DistanceField;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Обработчик двоичных файлов поля расстояний. Формат: сигнатура {@code MZF1}, ширина, высота, координаты источника,
+ * затем {@code width * height} расстояний ({@code int}, {@link DistanceField#UNREACHED} для недостижимых ячеек) и
+ * столько же направлений к предку ({@code byte}), все числа в порядке big-endian.
+ */
+public class DistanceFieldFileHandler {
+
+    private static final int MAGIC = 0x4d5a4631;
+    private static final int HEADER_BYTES = Integer.BYTES * 5;
+
+    /**
+     * Записывает поле расстояний в файл.
+     *
+     * @param filePath путь к файлу
+     * @param field поле расстояний
+     * @throws IOException если произошла ошибка записи
+     */
+    public void write(Path filePath, DistanceField field) throws IOException {
+        try (FileChannel channel = BinaryChannels.openForWrite(filePath)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BinaryChannels.CHUNK_BYTES);
+            buffer.putInt(MAGIC)
+                    .putInt(field.width())
+                    .putInt(field.height())
+                    .putInt(field.source().x())
+                    .putInt(field.source().y());
+            BinaryChannels.writeInts(channel, buffer, field.distances());
+            BinaryChannels.writeBytes(channel, buffer, field.directions());
+            BinaryChannels.flush(channel, buffer);
+        }
+    }
+
+    /**
+     * Читает поле расстояний из файла.
+     *
+     * @param filePath путь к файлу
+     * @return прочитанное поле расстояний
+     * @throws IOException если файл повреждён или произошла ошибка чтения
+     */
+    public DistanceField read(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BinaryChannels.CHUNK_BYTES).flip();
+            BinaryChannels.fill(channel, buffer, HEADER_BYTES, filePath);
+
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a distance field file: " + filePath);
+            }
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            Point source = new Point(buffer.getInt(), buffer.getInt());
+
+            long cellCount = (long) width * height;
+            if (width <= 0 || height <= 0 || cellCount > Integer.MAX_VALUE
+                    || channel.size() != HEADER_BYTES + (Integer.BYTES + 1) * cellCount) {
+                throw new IOException("Corrupted distance field file: " + filePath);
+            }
+
+            int[] distances = BinaryChannels.readInts(channel, buffer, (int) cellCount, filePath);
+            byte[] directions = BinaryChannels.readBytes(channel, buffer, (int) cellCount, filePath);
+            return new DistanceField(width, height, source, distances, directions);
+        }
+    }
+}
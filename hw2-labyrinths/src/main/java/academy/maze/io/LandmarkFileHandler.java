@@ -0,0 +1,136 @@
+package academy.maze.io;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.solver.impl.LandmarkIndex;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Обработчик файлов с таблицами ориентиров ALT. Таблицы хранятся рядом с файлом лабиринта ({@code <maze>.landmarks}),
+ * чтобы повторные запуски не пересчитывали их.
+ *
+ * <p>Формат двоичный: сигнатура {@code MZL1}, ширина, высота, отпечаток сетки, запрошенное число ориентиров, число
+ * ориентиров, индексы ячеек ориентиров и затем таблицы расстояний подряд, все числа в порядке big-endian. Отпечаток
+ * позволяет заметить, что лабиринт изменился после сохранения таблиц. Запрошенное число хранится отдельно, потому что
+ * совпавшие ориентиры отбрасываются и ориентиров в файле может оказаться меньше.
+ */
+public class LandmarkFileHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LandmarkFileHandler.class);
+
+    private static final int MAGIC = 0x4d5a4c31;
+    private static final int HEADER_BYTES = Integer.BYTES * 5 + Long.BYTES;
+    private static final String EXTENSION = ".landmarks";
+
+    /**
+     * Возвращает путь к файлу таблиц для файла лабиринта.
+     *
+     * @param mazePath путь к файлу лабиринта
+     * @return путь {@code <maze>.landmarks}
+     */
+    public Path sidecarPath(Path mazePath) {
+        return mazePath.resolveSibling(mazePath.getFileName() + EXTENSION);
+    }
+
+    /**
+     * Читает таблицы из файла рядом с лабиринтом, если они посчитаны для этой сетки с тем же запрошенным числом
+     * ориентиров, иначе строит их заново и сохраняет.
+     *
+     * @param mazePath путь к файлу лабиринта
+     * @param grid сетка прочитанного лабиринта
+     * @param landmarkCount число ориентиров для нового индекса
+     * @return индекс ориентиров для сетки
+     * @throws IOException если таблицы не удалось прочитать или записать
+     */
+    public LandmarkIndex loadOrBuild(Path mazePath, CellGrid grid, int landmarkCount) throws IOException {
+        Path path = sidecarPath(mazePath);
+        if (Files.exists(path)) {
+            LandmarkIndex index = read(path);
+            if (index.matches(grid) && index.requestedCount() == landmarkCount) {
+                LOGGER.info("Loaded {} landmarks from: {}", index.landmarkCount(), path);
+                return index;
+            }
+            LOGGER.info("Landmark tables are stale, rebuilding: {}", path);
+        }
+
+        LandmarkIndex index = LandmarkIndex.build(grid, landmarkCount);
+        write(path, index);
+        LOGGER.info("Saved {} landmarks to: {}", index.landmarkCount(), path);
+        return index;
+    }
+
+    /**
+     * Записывает таблицы ориентиров в файл.
+     *
+     * @param filePath путь к файлу
+     * @param index индекс ориентиров
+     * @throws IOException если произошла ошибка записи
+     */
+    public void write(Path filePath, LandmarkIndex index) throws IOException {
+        try (FileChannel channel = BinaryChannels.openForWrite(filePath)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BinaryChannels.CHUNK_BYTES);
+            buffer.putInt(MAGIC)
+                    .putInt(index.width())
+                    .putInt(index.height())
+                    .putLong(index.fingerprint())
+                    .putInt(index.requestedCount())
+                    .putInt(index.landmarkCount());
+            for (int i = 0; i < index.landmarkCount(); i++) {
+                BinaryChannels.ensureRemaining(channel, buffer, Integer.BYTES);
+                buffer.putInt(index.landmark(i));
+            }
+            for (int i = 0; i < index.landmarkCount(); i++) {
+                BinaryChannels.writeInts(channel, buffer, index.distances(i));
+            }
+            BinaryChannels.flush(channel, buffer);
+        }
+    }
+
+    /**
+     * Читает таблицы ориентиров из файла.
+     *
+     * @param filePath путь к файлу
+     * @return прочитанный индекс ориентиров
+     * @throws IOException если файл повреждён или произошла ошибка чтения
+     */
+    public LandmarkIndex read(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BinaryChannels.CHUNK_BYTES).flip();
+            BinaryChannels.fill(channel, buffer, HEADER_BYTES, filePath);
+
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a landmark file: " + filePath);
+            }
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            long fingerprint = buffer.getLong();
+            int requestedCount = buffer.getInt();
+            int landmarkCount = buffer.getInt();
+
+            long cellCount = (long) width * height;
+            long expectedSize = HEADER_BYTES + Integer.BYTES * (landmarkCount + landmarkCount * cellCount);
+            if (width <= 0
+                    || height <= 0
+                    || landmarkCount <= 0
+                    || requestedCount < landmarkCount
+                    || cellCount > Integer.MAX_VALUE
+                    || channel.size() != expectedSize) {
+                throw new IOException("Corrupted landmark file: " + filePath);
+            }
+
+            int[] landmarks = BinaryChannels.readInts(channel, buffer, landmarkCount, filePath);
+            int[][] distances = new int[landmarkCount][];
+            for (int i = 0; i < landmarkCount; i++) {
+                distances[i] = BinaryChannels.readInts(channel, buffer, (int) cellCount, filePath);
+            }
+
+            return new LandmarkIndex(width, height, fingerprint, requestedCount, landmarks, distances);
+        }
+    }
+}
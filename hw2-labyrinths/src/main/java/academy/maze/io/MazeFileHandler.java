@@ -1,16 +1,33 @@
 package academy.maze.io;
 
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.CellGridFactory;
 import academy.maze.dto.CellType;
 import academy.maze.dto.Maze;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
-/** Обработчик файлов лабиринтов. Отвечает за чтение и запись лабиринтов в текстовом формате. */
+/**
+ * Обработчик файлов лабиринтов. Отвечает за чтение и запись лабиринтов в текстовом формате; файлы двоичного формата
+ * распознаются при чтении по сигнатуре и передаются {@link BinaryMazeFileHandler}.
+ */
 public class MazeFileHandler {
     private static final char WALL_CHAR = '#';
     private static final String UNICODE_WALL_CHARS = "═║╔╗╚╝╦╩╠╣╬";
@@ -19,7 +36,15 @@ public class MazeFileHandler {
     private static final char SAND = '*';
     private static final char COIN = '$';
 
+    /** Расширение сжатых файлов. */
+    public static final String GZIP_EXTENSION = ".gz";
+
+    private static final int COMPRESSION_BUFFER_BYTES = 1 << 16;
+
     private boolean enableSurfaces = false;
+    private boolean compress = false;
+    private int maxWidth = Integer.MAX_VALUE;
+    private int maxHeight = Integer.MAX_VALUE;
 
     /**
      * Читает лабиринт из файла.
@@ -29,37 +54,140 @@ public class MazeFileHandler {
      * @throws IOException если произошла ошибка чтения
      */
     public Maze read(Path filePath) throws IOException {
-        List<String> lines = new ArrayList<>();
+        return read(filePath, CellGridFactory.heap());
+    }
 
-        try (BufferedReader reader = Files.newBufferedReader(filePath)) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                lines.add(line);
+    /**
+     * Читает лабиринт из файла в сетку, выделенную указанной фабрикой. Файл отображается в память и разбирается прямо
+     * из байтов UTF-8 без построчного чтения в строки: первый проход находит размеры сетки, второй заполняет её.
+     * Поэтому кроме самой сетки память не расходуется, и размер файла не ограничен двумя гигабайтами.
+     *
+     * <p>Сжатый gzip файл распознаётся по сигнатуре и распаковывается потоком дважды, для измерения и для заполнения
+     * сетки, так что распакованный текст целиком в памяти не хранится.
+     *
+     * <p>Файл двоичного формата ({@link BinaryMazeFileHandler}) не разбирается: его ячейки отображаются в память и
+     * служат сеткой напрямую, фабрика в этом случае не используется, а поверхности сохраняются как записаны.
+     *
+     * @param filePath путь к файлу
+     * @param gridFactory способ выделения сетки
+     * @return прочитанный лабиринт
+     * @throws IOException если файл пуст, слишком велик или произошла ошибка чтения
+     */
+    public Maze read(Path filePath, CellGridFactory gridFactory) throws IOException {
+        BinaryMazeFileHandler binaryHandler = new BinaryMazeFileHandler();
+        if (binaryHandler.isBinary(filePath)) {
+            return binaryHandler.read(filePath);
+        }
+        if (isGzip(filePath)) {
+            return readGzip(filePath, gridFactory);
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+                Arena arena = Arena.ofConfined()) {
+            long size = channel.size();
+            if (size == 0) {
+                throw new IOException("File is empty: " + filePath);
             }
+
+            MemorySegment text = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, arena);
+            MazeTextDecoder measure = MazeTextDecoder.measuring();
+            measure.accept(text);
+            measure.finish();
+
+            CellGrid grid = createGrid(measure, gridFactory, filePath);
+            MazeTextDecoder decoder = MazeTextDecoder.into(grid, ch -> charToCellType((char) ch));
+            decoder.accept(text);
+            decoder.finish();
+            return new Maze(grid);
         }
+    }
 
-        if (lines.isEmpty()) {
+    private Maze readGzip(Path filePath, CellGridFactory gridFactory) throws IOException {
+        byte[] buffer = new byte[COMPRESSION_BUFFER_BYTES];
+        MazeTextDecoder measure = MazeTextDecoder.measuring();
+        decompress(filePath, measure, buffer);
+        if (measure.height() == 0) {
             throw new IOException("File is empty: " + filePath);
         }
 
+        CellGrid grid = createGrid(measure, gridFactory, filePath);
+        decompress(filePath, MazeTextDecoder.into(grid, ch -> charToCellType((char) ch)), buffer);
+        return new Maze(grid);
+    }
+
+    private static void decompress(Path filePath, MazeTextDecoder decoder, byte[] buffer) throws IOException {
+        try (InputStream input = new GZIPInputStream(Files.newInputStream(filePath), COMPRESSION_BUFFER_BYTES)) {
+            int read;
+            while ((read = input.readNBytes(buffer, 0, buffer.length)) > 0) {
+                decoder.accept(buffer, read);
+            }
+        }
+        decoder.finish();
+    }
+
+    private CellGrid createGrid(MazeTextDecoder measure, CellGridFactory gridFactory, Path filePath)
+            throws IOException {
+        if (measure.width() > Integer.MAX_VALUE || measure.height() > Integer.MAX_VALUE) {
+            throw new IOException("Maze is too large: " + filePath);
+        }
+        checkSize((int) measure.width(), (int) measure.height());
+        return gridFactory.create((int) measure.width(), (int) measure.height());
+    }
+
+    private void checkSize(int width, int height) throws IOException {
+        if (width > maxWidth || height > maxHeight) {
+            throw new IOException(
+                    "Maze size " + width + "x" + height + " exceeds the limit of " + maxWidth + "x" + maxHeight);
+        }
+    }
+
+    private static boolean isGzip(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Short.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            return channel.read(magic, 0) == Short.BYTES && magic.getShort(0) == (short) GZIPInputStream.GZIP_MAGIC;
+        }
+    }
+
+    /**
+     * Читает лабиринт в текстовом формате из потока, например из тела HTTP-запроса. Поток не закрывается.
+     *
+     * @param reader источник символов
+     * @return прочитанный лабиринт
+     * @throws IOException если поток пуст или произошла ошибка чтения
+     */
+    public Maze read(Reader reader) throws IOException {
+        List<String> lines = readLines(new BufferedReader(reader));
+        if (lines.isEmpty()) {
+            throw new IOException("Maze is empty");
+        }
+
+        return parse(lines, CellGridFactory.heap());
+    }
+
+    private static List<String> readLines(BufferedReader reader) throws IOException {
+        List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    private Maze parse(List<String> lines, CellGridFactory gridFactory) throws IOException {
         int height = lines.size();
         int width = lines.stream().mapToInt(String::length).max().orElse(0);
+        checkSize(width, height);
 
-        CellType[][] cells = new CellType[height][width];
+        CellGrid grid = gridFactory.create(width, height);
 
         for (int y = 0; y < height; y++) {
             String line = lines.get(y);
-            for (int x = 0; x < width; x++) {
-                if (x < line.length()) {
-                    char ch = line.charAt(x);
-                    cells[y][x] = charToCellType(ch);
-                } else {
-                    cells[y][x] = CellType.WALL;
-                }
+            for (int x = 0; x < line.length(); x++) {
+                grid.set(x, y, charToCellType(line.charAt(x)));
             }
         }
 
-        return new Maze(cells);
+        return new Maze(grid);
     }
 
     /**
@@ -103,14 +231,31 @@ public class MazeFileHandler {
      * @throws IOException если произошла ошибка записи
      */
     public void write(Path filePath, String content) throws IOException {
+        try (BufferedWriter writer = openWriter(filePath)) {
+            writer.write(content);
+        }
+    }
+
+    /**
+     * Открывает файл для потоковой записи лабиринта, создавая недостающие каталоги. Если имя файла оканчивается на
+     * {@code .gz} или включено сжатие ({@link #setCompress(boolean)}), текст сжимается gzip по мере записи.
+     *
+     * @param filePath путь к файлу
+     * @return буферизованный поток записи, который нужно закрыть
+     * @throws IOException если файл не удалось открыть
+     */
+    public BufferedWriter openWriter(Path filePath) throws IOException {
         Path parent = filePath.getParent();
         if (parent != null) {
             Files.createDirectories(parent);
         }
 
-        try (BufferedWriter writer = Files.newBufferedWriter(filePath)) {
-            writer.write(content);
+        if (compress || filePath.getFileName().toString().toLowerCase().endsWith(GZIP_EXTENSION)) {
+            GZIPOutputStream output = new GZIPOutputStream(Files.newOutputStream(filePath), COMPRESSION_BUFFER_BYTES);
+            return new BufferedWriter(
+                    new OutputStreamWriter(output, StandardCharsets.UTF_8), COMPRESSION_BUFFER_BYTES);
         }
+        return Files.newBufferedWriter(filePath);
     }
 
     /**
@@ -121,4 +266,26 @@ public class MazeFileHandler {
     public void setEnableSurfaces(boolean enable) {
         this.enableSurfaces = enable;
     }
+
+    /**
+     * Включает сжатие gzip при записи независимо от расширения файла. При чтении сжатые файлы распознаются по
+     * сигнатуре.
+     *
+     * @param compress true для сжатия записываемых файлов
+     */
+    public void setCompress(boolean compress) {
+        this.compress = compress;
+    }
+
+    /**
+     * Ограничивает размеры читаемых текстовых лабиринтов. Размеры проверяются до выделения сетки, поэтому слишком
+     * большой лабиринт отклоняется, не занимая память под ячейки.
+     *
+     * @param maxWidth наибольшая ширина сетки
+     * @param maxHeight наибольшая высота сетки
+     */
+    public void setMaximumSize(int maxWidth, int maxHeight) {
+        this.maxWidth = maxWidth;
+        this.maxHeight = maxHeight;
+    }
 }
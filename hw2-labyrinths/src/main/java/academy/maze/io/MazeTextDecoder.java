@@ -0,0 +1,194 @@
+package academy.maze.io;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.CellType;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.function.IntFunction;
+
+/**
+ * Побайтовый декодер текстового лабиринта в UTF-8. Байты подаются порциями любого размера, поэтому один и тот же
+ * декодер разбирает и отображённый в память файл, и распаковываемый поток. Без сетки декодер только измеряет текст:
+ * число строк и наибольшую длину строки в символах {@code char}, как их посчитал бы
+ * {@link java.io.BufferedReader#readLine()}. Строки разделяются {@code \n}, {@code \r} или {@code \r\n}.
+ */
+final class MazeTextDecoder {
+    private final CellGrid grid;
+    private final IntFunction<CellType> cellTypes;
+    private final CellType[] ascii = new CellType[0x80];
+
+    private long x;
+    private long y;
+    private long width;
+    private boolean lineOpen;
+    private boolean afterCarriageReturn;
+    private int sequenceLength;
+    private int remaining;
+    private int codePoint;
+
+    private MazeTextDecoder(CellGrid grid, IntFunction<CellType> cellTypes) {
+        this.grid = grid;
+        this.cellTypes = cellTypes;
+        for (char ch = 0; ch < ascii.length; ch++) {
+            ascii[ch] = cellTypes.apply(ch);
+        }
+    }
+
+    /**
+     * Создаёт декодер, который только измеряет текст.
+     *
+     * @return декодер без сетки
+     */
+    static MazeTextDecoder measuring() {
+        return new MazeTextDecoder(null, ch -> CellType.PATH);
+    }
+
+    /**
+     * Создаёт декодер, заполняющий сетку.
+     *
+     * @param grid сетка размеров, найденных измеряющим декодером
+     * @param cellTypes преобразование символа в тип ячейки
+     * @return декодер в сетку
+     */
+    static MazeTextDecoder into(CellGrid grid, IntFunction<CellType> cellTypes) {
+        return new MazeTextDecoder(grid, cellTypes);
+    }
+
+    /**
+     * Подаёт очередную порцию байтов из сегмента памяти.
+     *
+     * @param text байты текста
+     */
+    void accept(MemorySegment text) {
+        long size = text.byteSize();
+        long i = 0;
+        while (i < size) {
+            int b = text.get(ValueLayout.JAVA_BYTE, i++) & 0xff;
+            if (sequenceLength == 0 && (b & 0xf0) == 0xe0 && i + 1 < size) {
+                // Целый трёхбайтовый символ (стены из псевдографики) декодируется сразу
+                int second = text.get(ValueLayout.JAVA_BYTE, i) & 0xff;
+                int third = text.get(ValueLayout.JAVA_BYTE, i + 1) & 0xff;
+                if ((second & 0xc0) == 0x80 && (third & 0xc0) == 0x80) {
+                    afterCarriageReturn = false;
+                    lineOpen = true;
+                    put(cellTypes.apply((b & 0x0f) << 12 | (second & 0x3f) << 6 | third & 0x3f));
+                    i += 2;
+                    continue;
+                }
+            }
+            if (sequenceLength > 0 || !isPlainAscii(b)) {
+                accept(b);
+                continue;
+            }
+
+            // Серия ASCII-символов внутри строки разбирается без обновления состояния на каждом байте
+            afterCarriageReturn = false;
+            lineOpen = true;
+            long column = x;
+            int row = (int) y;
+            while (true) {
+                if (grid != null) {
+                    grid.set((int) column, row, ascii[b]);
+                }
+                column++;
+                if (i == size || !isPlainAscii(b = text.get(ValueLayout.JAVA_BYTE, i) & 0xff)) {
+                    break;
+                }
+                i++;
+            }
+            x = column;
+        }
+    }
+
+    /**
+     * Подаёт очередную порцию байтов из массива.
+     *
+     * @param bytes буфер
+     * @param length число байтов в начале буфера
+     */
+    void accept(byte[] bytes, int length) {
+        for (int i = 0; i < length; i++) {
+            accept(bytes[i] & 0xff);
+        }
+    }
+
+    /** Завершает разбор: дописывает незаконченный символ и последнюю строку без перевода строки. */
+    void finish() {
+        if (sequenceLength > 0) {
+            emitSequence();
+        }
+        if (lineOpen) {
+            endLine();
+        }
+    }
+
+    long width() {
+        return width;
+    }
+
+    long height() {
+        return y;
+    }
+
+    private void accept(int b) {
+        if (sequenceLength > 0) {
+            if ((b & 0xc0) == 0x80) {
+                codePoint = codePoint << 6 | b & 0x3f;
+                if (--remaining == 0) {
+                    emitSequence();
+                }
+                return;
+            }
+            emitSequence();
+        }
+
+        if (b == '\n' && afterCarriageReturn) {
+            afterCarriageReturn = false;
+            return;
+        }
+        afterCarriageReturn = b == '\r';
+        if (b == '\n' || b == '\r') {
+            endLine();
+        } else if (b < 0x80) {
+            lineOpen = true;
+            put(ascii[b]);
+        } else {
+            lineOpen = true;
+            // Байт продолжения без начального байта не образует символа и пропускается
+            if ((b & 0xc0) != 0x80) {
+                sequenceLength = b >= 0xf0 ? 4 : b >= 0xe0 ? 3 : 2;
+                remaining = sequenceLength - 1;
+                codePoint = b & (0x7f >> sequenceLength);
+            }
+        }
+    }
+
+    private static boolean isPlainAscii(int b) {
+        return b < 0x80 && b != '\n' && b != '\r';
+    }
+
+    private void emitSequence() {
+        if (sequenceLength == 4) {
+            // Символ вне базовой плоскости занимает в строке два char — пару суррогатов
+            put(cellTypes.apply(Character.highSurrogate(codePoint)));
+            put(cellTypes.apply(Character.lowSurrogate(codePoint)));
+        } else {
+            put(cellTypes.apply(codePoint));
+        }
+        sequenceLength = 0;
+    }
+
+    private void put(CellType type) {
+        if (grid != null) {
+            grid.set((int) x, (int) y, type);
+        }
+        x++;
+    }
+
+    private void endLine() {
+        width = Math.max(width, x);
+        x = 0;
+        y++;
+        lineOpen = false;
+    }
+}
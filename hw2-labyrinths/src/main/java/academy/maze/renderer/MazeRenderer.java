@@ -1,8 +1,10 @@
 package academy.maze.renderer;
 
+import academy.maze.dto.CellGrid;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Path;
 import academy.maze.dto.Point;
+import java.io.IOException;
 
 /** Рендерер лабиринта - интерфейс для различных способов отображения. */
 public interface MazeRenderer {
@@ -24,4 +26,36 @@ public interface MazeRenderer {
      * @return строковое представление лабиринта с путём
      */
     String render(Maze maze, Path path, Point start, Point end);
+
+    /**
+     * Отрисовывает лабиринт без пути построчно в приёмник. Строки собираются в одном переиспользуемом буфере, поэтому
+     * память не зависит от высоты лабиринта.
+     *
+     * @param maze лабиринт для отрисовки
+     * @param out приёмник символов, например {@link java.io.Writer}
+     * @throws IOException если приёмник не принял символы
+     */
+    void render(Maze maze, Appendable out) throws IOException;
+
+    /**
+     * Отрисовывает лабиринт с путём решения построчно в приёмник.
+     *
+     * @param maze лабиринт для отрисовки
+     * @param path путь в лабиринте
+     * @param start начальная точка
+     * @param end конечная точка
+     * @param out приёмник символов, например {@link java.io.Writer}
+     * @throws IOException если приёмник не принял символы
+     */
+    void render(Maze maze, Path path, Point start, Point end, Appendable out) throws IOException;
+
+    /**
+     * Отрисовывает одну строку сетки в буфер, без перевода строки. Для отрисовки нужны только строки {@code y - 1},
+     * {@code y} и {@code y + 1}, поэтому подходит и сетка-окно при потоковой записи.
+     *
+     * @param grid сетка лабиринта
+     * @param y номер строки
+     * @param row буфер длиной не меньше ширины сетки
+     */
+    void renderRow(CellGrid grid, int y, char[] row);
 }
@@ -1,66 +1,152 @@
 package academy.maze.renderer.impl;
 
-import academy.maze.dto.CellType;
+import academy.maze.dto.CellGrid;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Path;
 import academy.maze.dto.Point;
 import academy.maze.renderer.MazeRenderer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
 
-/** Абстрактный базовый класс для рендереров лабиринта. Содержит общую логику отрисовки лабиринта с путём. */
+/**
+ * Абстрактный базовый класс для рендереров лабиринта. Содержит общую логику отрисовки лабиринта с путём. Отрисовка
+ * идёт построчно в переиспользуемый буфер, строковые варианты {@code render} собирают те же строки в
+ * {@link StringBuilder}. Решённый лабиринт рисуется теми же строками, что и нерешённый, поверх которых накладываются
+ * клетки пути и отметки начала и конца.
+ */
 public abstract class AbstractMazeRenderer implements MazeRenderer {
     protected static final char START = 'O';
     protected static final char END = 'X';
 
     @Override
     public String render(Maze maze) {
-        CellType[][] cells = maze.cells();
-        StringBuilder sb = new StringBuilder();
-
-        for (int y = 0; y < cells.length; y++) {
-            for (int x = 0; x < cells[y].length; x++) {
-                sb.append(getCellChar(cells, x, y));
-            }
-            sb.append('\n');
+        StringBuilder sb = newBuilder(maze.grid());
+        try {
+            render(maze, sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-
         return sb.toString();
     }
 
     @Override
     public String render(Maze maze, Path path, Point start, Point end) {
-        CellType[][] cells = maze.cells();
+        StringBuilder sb = newBuilder(maze.grid());
+        try {
+            render(maze, path, start, end, sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void render(Maze maze, Appendable out) throws IOException {
+        CellGrid grid = maze.grid();
+        char[] row = newRow(grid);
 
-        Set<Point> pathPoints = new HashSet<>();
-        if (path.points() != null) {
-            pathPoints.addAll(Arrays.asList(path.points()));
+        for (int y = 0; y < grid.height(); y++) {
+            renderRow(grid, y, row);
+            appendRow(out, row);
         }
+    }
+
+    @Override
+    public void render(Maze maze, Path path, Point start, Point end, Appendable out) throws IOException {
+        CellGrid grid = maze.grid();
+        long width = grid.width();
+        long[] route = routeIndices(grid, path);
+
+        char[] row = newRow(grid);
+        int next = 0;
+        for (int y = 0; y < grid.height(); y++) {
+            renderRow(grid, y, row);
+
+            long rowStart = y * width;
+            while (next < route.length && route[next] < rowStart + width) {
+                row[(int) (route[next++] - rowStart)] = getRouteChar();
+            }
+            if (isInRow(grid, end, y)) {
+                row[end.x()] = END;
+            }
+            if (isInRow(grid, start, y)) {
+                row[start.x()] = START;
+            }
 
-        StringBuilder sb = new StringBuilder();
+            appendRow(out, row);
+        }
+    }
 
-        for (int y = 0; y < cells.length; y++) {
-            for (int x = 0; x < cells[y].length; x++) {
-                Point current = new Point(x, y);
-                char symbol;
+    @Override
+    public void renderRow(CellGrid grid, int y, char[] row) {
+        for (int x = 0; x < grid.width(); x++) {
+            row[x] = getCellChar(grid, x, y);
+        }
+    }
 
-                if (current.equals(start)) {
-                    symbol = START;
-                } else if (current.equals(end)) {
-                    symbol = END;
-                } else if (pathPoints.contains(current)) {
-                    symbol = getRouteChar();
-                } else {
-                    symbol = getCellChar(cells, x, y);
-                }
+    /**
+     * Собирает плоские индексы {@code y * width + x} точек пути внутри сетки в порядке возрастания, чтобы наложить
+     * путь на строки по мере их отрисовки. Память пропорциональна длине пути, а не размеру сетки.
+     *
+     * @param grid сетка лабиринта
+     * @param path путь
+     * @return отсортированные индексы клеток пути
+     */
+    private static long[] routeIndices(CellGrid grid, Path path) {
+        Point[] points = path.points();
+        if (points == null) {
+            return new long[0];
+        }
 
-                sb.append(symbol);
+        long[] indices = new long[points.length];
+        int count = 0;
+        for (Point point : points) {
+            if (grid.contains(point.x(), point.y())) {
+                indices[count++] = (long) point.y() * grid.width() + point.x();
             }
-            sb.append('\n');
         }
+        Arrays.sort(indices, 0, count);
+        return count == indices.length ? indices : Arrays.copyOf(indices, count);
+    }
 
-        return sb.toString();
+    private static boolean isInRow(CellGrid grid, Point point, int y) {
+        return point != null && point.y() == y && grid.contains(point.x(), y);
+    }
+
+    /**
+     * Создаёт буфер строки с переводом строки в последнем символе.
+     *
+     * @param grid сетка лабиринта
+     * @return буфер длиной {@code width + 1}
+     */
+    private static char[] newRow(CellGrid grid) {
+        char[] row = new char[grid.width() + 1];
+        row[grid.width()] = '\n';
+        return row;
+    }
+
+    static StringBuilder newBuilder(CellGrid grid) {
+        return new StringBuilder((int) Math.min(Integer.MAX_VALUE - 8, (grid.width() + 1L) * grid.height()));
+    }
+
+    /**
+     * Передаёт строку приёмнику без промежуточной строки для известных приёмников.
+     *
+     * @param out приёмник символов
+     * @param row буфер строки вместе с переводом строки
+     * @throws IOException если приёмник не принял символы
+     */
+    static void appendRow(Appendable out, char[] row) throws IOException {
+        if (out instanceof Writer writer) {
+            writer.write(row);
+        } else if (out instanceof StringBuilder sb) {
+            sb.append(row);
+        } else {
+            out.append(CharBuffer.wrap(row));
+        }
     }
 
     /**
@@ -73,10 +159,10 @@ public abstract class AbstractMazeRenderer implements MazeRenderer {
     /**
      * Возвращает символ для отображения ячейки.
      *
-     * @param cells массив клеток лабиринта
+     * @param grid сетка клеток лабиринта
      * @param x координата x
      * @param y координата y
      * @return символ для отображения
      */
-    protected abstract char getCellChar(CellType[][] cells, int x, int y);
+    protected abstract char getCellChar(CellGrid grid, int x, int y);
 }
@@ -1,5 +1,6 @@
 package academy.maze.renderer.impl;
 
+import academy.maze.dto.CellGrid;
 import academy.maze.dto.CellType;
 
 /**
@@ -22,8 +23,8 @@ public class AsciiRenderer extends AbstractMazeRenderer {
     }
 
     @Override
-    protected char getCellChar(CellType[][] cells, int x, int y) {
-        return getCellCharByType(cells[y][x]);
+    protected char getCellChar(CellGrid grid, int x, int y) {
+        return getCellCharByType(grid.get(x, y));
     }
 
     /**
@@ -0,0 +1,83 @@
+package academy.maze.renderer.impl;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.Maze;
+import academy.maze.solver.impl.DistanceField;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Рендерер поля расстояний в виде тепловой карты. Расстояние до ячейки показывается цифрой от {@code 0} (рядом с
+ * источником) до {@code 9} (самые дальние ячейки) пропорционально доле от наибольшего расстояния. Стены отображаются
+ * как {@code '#'}, недостижимые ячейки — пробелом, источник — {@code 'O'}.
+ */
+public class HeatmapRenderer {
+    private static final char WALL = '#';
+    private static final char UNREACHED = ' ';
+    private static final char SOURCE = 'O';
+    private static final int LEVELS = 10;
+
+    /**
+     * Отрисовывает поле расстояний поверх лабиринта в строку.
+     *
+     * @param maze лабиринт, для которого посчитано поле
+     * @param field поле расстояний
+     * @return тепловая карта, строка на ряд сетки
+     * @throws IllegalArgumentException если поле посчитано для сетки другого размера
+     */
+    public String render(Maze maze, DistanceField field) {
+        StringBuilder sb = AbstractMazeRenderer.newBuilder(maze.grid());
+        try {
+            render(maze, field, sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Отрисовывает поле расстояний поверх лабиринта, передавая приёмнику строку за строкой. Память не зависит от высоты
+     * сетки.
+     *
+     * @param maze лабиринт, для которого посчитано поле
+     * @param field поле расстояний
+     * @param out приёмник символов
+     * @throws IOException если приёмник не принял символы
+     * @throws IllegalArgumentException если поле посчитано для сетки другого размера
+     */
+    public void render(Maze maze, DistanceField field, Appendable out) throws IOException {
+        CellGrid grid = maze.grid();
+        if (grid.width() != field.width() || grid.height() != field.height()) {
+            throw new IllegalArgumentException("Distance field size does not match the maze");
+        }
+        int width = grid.width();
+        int[] distances = field.distances();
+
+        long maxDistance = 0;
+        for (int distance : distances) {
+            if (distance != DistanceField.UNREACHED) {
+                maxDistance = Math.max(maxDistance, distance);
+            }
+        }
+
+        int sourceIndex = field.source().y() * width + field.source().x();
+        char[] row = new char[width + 1];
+        row[width] = '\n';
+        for (int y = 0; y < grid.height(); y++) {
+            for (int x = 0; x < width; x++) {
+                int index = y * width + x;
+                int distance = distances[index];
+                if (index == sourceIndex) {
+                    row[x] = SOURCE;
+                } else if (!grid.get(x, y).isPassable()) {
+                    row[x] = WALL;
+                } else if (distance == DistanceField.UNREACHED) {
+                    row[x] = UNREACHED;
+                } else {
+                    row[x] = (char) ('0' + (maxDistance == 0 ? 0 : (long) distance * (LEVELS - 1) / maxDistance));
+                }
+            }
+            AbstractMazeRenderer.appendRow(out, row);
+        }
+    }
+}
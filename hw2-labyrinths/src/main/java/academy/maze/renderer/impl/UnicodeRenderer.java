@@ -1,5 +1,6 @@
 package academy.maze.renderer.impl;
 
+import academy.maze.dto.CellGrid;
 import academy.maze.dto.CellType;
 
 /**
@@ -32,11 +33,12 @@ public class UnicodeRenderer extends AbstractMazeRenderer {
     }
 
     @Override
-    protected char getCellChar(CellType[][] cells, int x, int y) {
-        if (cells[y][x] == CellType.WALL) {
-            return getWallChar(cells, x, y);
+    protected char getCellChar(CellGrid grid, int x, int y) {
+        CellType cellType = grid.get(x, y);
+        if (cellType == CellType.WALL) {
+            return getWallChar(grid, x, y);
         }
-        return getCellCharByType(cells[y][x]);
+        return getCellCharByType(cellType);
     }
 
     /**
@@ -57,16 +59,16 @@ public class UnicodeRenderer extends AbstractMazeRenderer {
     /**
      * Определяет символ стены в зависимости от соседних клеток.
      *
-     * @param cells массив клеток лабиринта
+     * @param grid сетка клеток лабиринта
      * @param x координата x
      * @param y координата y
      * @return символ для отрисовки стены
      */
-    private char getWallChar(CellType[][] cells, int x, int y) {
-        boolean top = hasWall(cells, x, y - 1);
-        boolean bottom = hasWall(cells, x, y + 1);
-        boolean left = hasWall(cells, x - 1, y);
-        boolean right = hasWall(cells, x + 1, y);
+    private char getWallChar(CellGrid grid, int x, int y) {
+        boolean top = hasWall(grid, x, y - 1);
+        boolean bottom = hasWall(grid, x, y + 1);
+        boolean left = hasWall(grid, x - 1, y);
+        boolean right = hasWall(grid, x + 1, y);
 
         if (top && bottom && left && right) {
             return CROSS;
@@ -98,15 +100,15 @@ public class UnicodeRenderer extends AbstractMazeRenderer {
     /**
      * Проверяет, является ли клетка стеной.
      *
-     * @param cells массив клеток лабиринта
+     * @param grid сетка клеток лабиринта
      * @param x координата x
      * @param y координата y
      * @return true, если клетка является стеной или находится за границами
      */
-    private boolean hasWall(CellType[][] cells, int x, int y) {
-        if (y < 0 || y >= cells.length || x < 0 || x >= cells[0].length) {
+    private boolean hasWall(CellGrid grid, int x, int y) {
+        if (!grid.contains(x, y)) {
             return false;
         }
-        return cells[y][x] == CellType.WALL;
+        return grid.get(x, y) == CellType.WALL;
     }
 }
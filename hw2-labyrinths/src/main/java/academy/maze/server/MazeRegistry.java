@@ -0,0 +1,140 @@
+package academy.maze.server;
+
+import academy.maze.dto.Maze;
+import academy.maze.solver.CachingSolver;
+import academy.maze.solver.Solver;
+import academy.maze.solver.SolverFactory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Реестр разобранных лабиринтов сервиса. Лабиринт хранится под идентификатором — шестнадцатеричным хешем содержимого
+ * сетки, поэтому повторная загрузка того же лабиринта не создаёт копию. Для каждого лабиринта решатели создаются один
+ * раз на алгоритм и переиспользуются между запросами, так что индексы {@code junction}, {@code tree} и {@code alt}
+ * строятся только при первом обращении. Найденные пути могут кешироваться в {@link CachingSolver}, тогда повторный
+ * запрос с теми же точками не запускает поиск.
+ *
+ * <p>Реестр ограничен суммарным числом ячеек лабиринтов: при превышении вытесняются давно не используемые лабиринты
+ * вместе с их решателями, и запросы к ним получают ответ «не найден». Лабиринт больше всего ограничения вытесняется
+ * сразу после регистрации.
+ */
+public class MazeRegistry {
+
+    /** Ограничение суммарного числа ячеек по умолчанию. */
+    public static final long DEFAULT_MAXIMUM_CELLS = 100_000_000L;
+
+    private final Cache<String, Entry> mazes;
+    private final SolverFactory solverFactory = new SolverFactory();
+    private final long cacheWeight;
+
+    /** Создаёт реестр без кеша путей с ограничением по умолчанию. */
+    public MazeRegistry() {
+        this(0, DEFAULT_MAXIMUM_CELLS);
+    }
+
+    /**
+     * Создаёт реестр с кешем путей.
+     *
+     * @param cacheWeight наибольшее суммарное число точек путей в кеше одного решателя, 0 отключает кеш
+     * @param maximumCells наибольшее суммарное число ячеек зарегистрированных лабиринтов
+     * @throws IllegalArgumentException если кеш путей отрицателен или ограничение ячеек не положительно
+     */
+    public MazeRegistry(long cacheWeight, long maximumCells) {
+        if (cacheWeight < 0) {
+            throw new IllegalArgumentException("Cache weight must not be negative: " + cacheWeight);
+        }
+        if (maximumCells <= 0) {
+            throw new IllegalArgumentException("Maximum registry cells must be positive: " + maximumCells);
+        }
+        this.cacheWeight = cacheWeight;
+        this.mazes = Caffeine.newBuilder()
+                .maximumWeight(maximumCells)
+                .weigher((String id, Entry entry) -> (int) Math.min(Integer.MAX_VALUE, entry.maze().grid().cellCount()))
+                .build();
+    }
+
+    /**
+     * Регистрирует лабиринт.
+     *
+     * @param maze лабиринт
+     * @return запись реестра; для уже известного лабиринта — существующая
+     */
+    public Entry register(Maze maze) {
+        String id = Long.toHexString(maze.grid().fingerprint());
+        return mazes.get(id, key -> new Entry(key, maze, this::createSolver));
+    }
+
+    /**
+     * Ищет лабиринт по идентификатору.
+     *
+     * @param id идентификатор лабиринта
+     * @return запись реестра или пустое значение, если лабиринт не регистрировался или был вытеснен
+     */
+    public Optional<Entry> find(String id) {
+        return Optional.ofNullable(mazes.getIfPresent(id));
+    }
+
+    /**
+     * Удаляет лабиринт вместе с его решателями.
+     *
+     * @param id идентификатор лабиринта
+     * @return true, если лабиринт был зарегистрирован
+     */
+    public boolean remove(String id) {
+        boolean registered = mazes.getIfPresent(id) != null;
+        mazes.invalidate(id);
+        return registered;
+    }
+
+    /**
+     * Возвращает примерное число зарегистрированных лабиринтов.
+     *
+     * @return число лабиринтов
+     */
+    public long size() {
+        mazes.cleanUp();
+        return mazes.estimatedSize();
+    }
+
+    private Solver createSolver(String algorithm) {
+        Solver solver = solverFactory.createSolver(algorithm);
+        return cacheWeight > 0 ? new CachingSolver(solver, cacheWeight) : solver;
+    }
+
+    /** Зарегистрированный лабиринт и созданные для него решатели. */
+    public static final class Entry {
+        private final String id;
+        private final Maze maze;
+        private final Function<String, Solver> solverFactory;
+        private final ConcurrentMap<String, Solver> solvers = new ConcurrentHashMap<>();
+
+        private Entry(String id, Maze maze, Function<String, Solver> solverFactory) {
+            this.id = id;
+            this.maze = maze;
+            this.solverFactory = solverFactory;
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public Maze maze() {
+            return maze;
+        }
+
+        /**
+         * Возвращает решатель для алгоритма, создавая его при первом обращении.
+         *
+         * @param algorithm имя алгоритма (регистронезависимо)
+         * @return решатель, общий для всех запросов к этому лабиринту
+         * @throws IllegalArgumentException если алгоритм не поддерживается
+         */
+        public Solver solver(String algorithm) {
+            return solvers.computeIfAbsent(algorithm.toLowerCase(), solverFactory);
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package academy.maze.server;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.generator.GeneratorFactory;
+import academy.maze.generator.SurfaceDecorator;
+import academy.maze.io.MazeFileHandler;
+import academy.maze.renderer.MazeRenderer;
+import academy.maze.renderer.RendererFactory;
+import academy.maze.solver.SolverUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * HTTP-сервис для генерации, решения и отрисовки лабиринтов без перезапуска JVM. Лабиринты хранятся в
+ * {@link MazeRegistry}, каждый запрос обрабатывается в отдельном виртуальном потоке.
+ *
+ * <p>Эндпоинты:
+ *
+ * <ul>
+ *   <li>{@code POST /mazes} — загрузить лабиринт в текстовом формате из тела запроса;
+ *   <li>{@code POST /mazes/generate?algorithm=&width=&height=[&surfaces=true][&seed=]} — сгенерировать лабиринт;
+ *   <li>{@code GET /mazes/{id}[?renderer=]} — отрисовать лабиринт;
+ *   <li>{@code GET /mazes/{id}/solve?algorithm=&start=x,y&end=x,y[&renderer=]} — решить лабиринт: JSON со стоимостью
+ *       и точками пути или, если указан рендерер, отрисованное решение;
+ *   <li>{@code DELETE /mazes/{id}} — удалить лабиринт из реестра.
+ * </ul>
+ *
+ * <p>Размеры лабиринтов и тело загрузки ограничены ({@link Limits}), чтобы один запрос не занял всю память. Ошибки в
+ * параметрах и слишком большие лабиринты возвращаются с кодом 400, неизвестный лабиринт — 404, слишком большое тело
+ * запроса — 413, нехватка памяти — 503, тело ошибки — JSON с полем {@code error}.
+ */
+public class MazeServer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MazeServer.class);
+
+    private static final String MAZES = "/mazes";
+    private static final String JSON = "application/json";
+    private static final String TEXT = "text/plain; charset=utf-8";
+
+    private final MazeRegistry registry;
+    private final Limits limits;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final RendererFactory rendererFactory = new RendererFactory();
+    private final GeneratorFactory generatorFactory = new GeneratorFactory();
+    private final SplittableRandom seeds = new SplittableRandom();
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Создаёт сервер с ограничениями по умолчанию, но не запускает его.
+     *
+     * @param address адрес и порт; порт 0 выбирает свободный порт
+     * @param registry реестр лабиринтов
+     * @throws IOException если адрес не удалось занять
+     */
+    public MazeServer(InetSocketAddress address, MazeRegistry registry) throws IOException {
+        this(address, registry, Limits.DEFAULT);
+    }
+
+    /**
+     * Создаёт сервер, но не запускает его.
+     *
+     * @param address адрес и порт; порт 0 выбирает свободный порт
+     * @param registry реестр лабиринтов
+     * @param limits ограничения размеров лабиринтов и тела запроса
+     * @throws IOException если адрес не удалось занять
+     */
+    public MazeServer(InetSocketAddress address, MazeRegistry registry, Limits limits) throws IOException {
+        this.registry = registry;
+        this.limits = limits;
+        this.server = HttpServer.create(address, 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(MAZES, this::handle);
+    }
+
+    /** Запускает обработку запросов. */
+    public void start() {
+        server.start();
+        LOGGER.info("Maze server listening on: {}", server.getAddress());
+    }
+
+    /** Останавливает сервер, дожидаясь завершения текущих запросов не дольше секунды. */
+    public void stop() {
+        server.stop(1);
+        executor.close();
+        LOGGER.info("Maze server stopped");
+    }
+
+    /**
+     * Возвращает порт, на котором слушает сервер.
+     *
+     * @return номер порта
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            try {
+                route(exchange);
+            } catch (HttpStatusException e) {
+                sendJson(exchange, e.status(), new ErrorResponse(e.getMessage()));
+            } catch (IllegalArgumentException e) {
+                sendJson(exchange, 400, new ErrorResponse(e.getMessage()));
+            } catch (OutOfMemoryError e) {
+                LOGGER.error("Out of memory handling request: {}", exchange.getRequestURI(), e);
+                sendJson(exchange, 503, new ErrorResponse("Not enough memory to handle the request"));
+            } catch (Exception e) {
+                LOGGER.error("Error handling request: {}", exchange.getRequestURI(), e);
+                sendJson(exchange, 500, new ErrorResponse("Internal server error"));
+            }
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String[] segments = exchange.getRequestURI().getPath().substring(MAZES.length()).split("/");
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+        if (segments.length == 0 || segments.length == 1 && segments[0].isEmpty()) {
+            requireMethod(method, "POST");
+            upload(exchange);
+        } else if (segments.length == 2 && segments[1].equals("generate")) {
+            requireMethod(method, "POST");
+            generate(exchange, query);
+        } else if (segments.length == 2) {
+            MazeRegistry.Entry entry = entry(segments[1]);
+            if (method.equals("DELETE")) {
+                registry.remove(entry.id());
+                sendEmpty(exchange, 204);
+            } else {
+                requireMethod(method, "GET");
+                sendText(exchange, renderer(query.getOrDefault("renderer", "ascii")).render(entry.maze()));
+            }
+        } else if (segments.length == 3 && segments[2].equals("solve")) {
+            requireMethod(method, "GET");
+            solve(exchange, entry(segments[1]), query);
+        } else {
+            throw new HttpStatusException(404, "Unknown endpoint: " + exchange.getRequestURI().getPath());
+        }
+    }
+
+    private void upload(HttpExchange exchange) throws IOException {
+        String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (contentLength != null && Long.parseLong(contentLength) > limits.maxBodyBytes()) {
+            throw bodyTooLarge();
+        }
+
+        MazeFileHandler fileHandler = new MazeFileHandler();
+        fileHandler.setEnableSurfaces(true);
+        fileHandler.setMaximumSize(limits.maxWidth(), limits.maxHeight());
+        InputStream body = new LimitedInputStream(exchange.getRequestBody(), limits.maxBodyBytes());
+        Maze maze;
+        try {
+            maze = fileHandler.read(new InputStreamReader(body, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+        sendJson(exchange, 201, info(registry.register(maze)));
+    }
+
+    private void generate(HttpExchange exchange, Map<String, String> query) throws IOException {
+        long seed = query.containsKey("seed") ? parseLong(query, "seed") : nextSeed();
+        SplittableRandom random = new SplittableRandom(seed);
+        int width = parseInt(query, "width");
+        int height = parseInt(query, "height");
+        if (width > limits.maxWidth() || height > limits.maxHeight()) {
+            throw new IllegalArgumentException("Maze size " + width + "x" + height + " exceeds the limit of "
+                    + limits.maxWidth() + "x" + limits.maxHeight());
+        }
+        Maze maze = generatorFactory
+                .createGenerator(required(query, "algorithm"), random.nextLong())
+                .generate(width, height);
+        if (Boolean.parseBoolean(query.get("surfaces"))) {
+            maze = new SurfaceDecorator(random.nextLong()).addSurfaces(maze);
+        }
+        sendJson(exchange, 201, info(registry.register(maze)));
+    }
+
+    private void solve(HttpExchange exchange, MazeRegistry.Entry entry, Map<String, String> query)
+            throws IOException {
+        Point start = Point.parse(required(query, "start"));
+        Point end = Point.parse(required(query, "end"));
+        Maze maze = entry.maze();
+        Path path = entry.solver(required(query, "algorithm")).solve(maze, start, end);
+
+        if (query.containsKey("renderer")) {
+            sendText(exchange, renderer(query.get("renderer")).render(maze, path, start, end));
+            return;
+        }
+
+        Point[] points = path.points();
+        int[][] coordinates = new int[points.length][];
+        for (int i = 0; i < points.length; i++) {
+            coordinates[i] = new int[] {points[i].x(), points[i].y()};
+        }
+        int cost = points.length == 0 ? -1 : SolverUtils.pathCost(maze.grid(), path);
+        sendJson(exchange, 200, new Solution(entry.id(), cost, points.length, coordinates));
+    }
+
+    private MazeRegistry.Entry entry(String id) {
+        return registry.find(id).orElseThrow(() -> new HttpStatusException(404, "Unknown maze: " + id));
+    }
+
+    private MazeRenderer renderer(String type) {
+        return rendererFactory.createRenderer(type);
+    }
+
+    private synchronized long nextSeed() {
+        return seeds.nextLong();
+    }
+
+    private HttpStatusException bodyTooLarge() {
+        return new HttpStatusException(413, "Request body exceeds " + limits.maxBodyBytes() + " bytes");
+    }
+
+    private static MazeInfo info(MazeRegistry.Entry entry) {
+        return new MazeInfo(entry.id(), entry.maze().grid().width(), entry.maze().grid().height());
+    }
+
+    private static void requireMethod(String actual, String expected) {
+        if (!actual.equals(expected)) {
+            throw new HttpStatusException(405, "Method not allowed: " + actual);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.put(
+                    URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private static String required(Map<String, String> query, String name) {
+        String value = query.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Missing query parameter: " + name);
+        }
+        return value;
+    }
+
+    private static int parseInt(Map<String, String> query, String name) {
+        try {
+            return Integer.parseInt(required(query, name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + query.get(name), e);
+        }
+    }
+
+    private static long parseLong(Map<String, String> query, String name) {
+        try {
+            return Long.parseLong(required(query, name));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + query.get(name), e);
+        }
+    }
+
+    private void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        send(exchange, status, JSON, mapper.writeValueAsBytes(body));
+    }
+
+    private static void sendText(HttpExchange exchange, String body) throws IOException {
+        send(exchange, 200, TEXT, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void sendEmpty(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    /**
+     * Ограничения сервера.
+     *
+     * @param maxWidth наибольшая ширина генерируемого или загружаемого лабиринта
+     * @param maxHeight наибольшая высота генерируемого или загружаемого лабиринта
+     * @param maxBodyBytes наибольший размер тела запроса на загрузку в байтах
+     */
+    public record Limits(int maxWidth, int maxHeight, long maxBodyBytes) {
+
+        /** Ограничения по умолчанию: лабиринт до 4001 x 4001 и тело до 64 МиБ. */
+        public static final Limits DEFAULT = new Limits(4001, 4001, 64L << 20);
+
+        /**
+         * Проверяет ограничения.
+         *
+         * @throws IllegalArgumentException если ограничение не положительно
+         */
+        public Limits {
+            if (maxWidth <= 0 || maxHeight <= 0 || maxBodyBytes <= 0) {
+                throw new IllegalArgumentException("Server limits must be positive: " + maxWidth + "x" + maxHeight
+                        + ", " + maxBodyBytes + " bytes");
+            }
+        }
+    }
+
+    /**
+     * Описание зарегистрированного лабиринта.
+     *
+     * @param id идентификатор в реестре
+     * @param width ширина сетки
+     * @param height высота сетки
+     */
+    public record MazeInfo(String id, int width, int height) {}
+
+    /**
+     * Решение лабиринта.
+     *
+     * @param id идентификатор лабиринта
+     * @param cost стоимость пути или -1, если путь не найден
+     * @param length число точек пути
+     * @param path точки пути в виде пар {@code [x, y]}
+     */
+    public record Solution(String id, int cost, int length, int[][] path) {}
+
+    /**
+     * Описание ошибки.
+     *
+     * @param error сообщение об ошибке
+     */
+    public record ErrorResponse(String error) {}
+
+    /** Ошибка с заданным HTTP-кодом ответа. */
+    private static final class HttpStatusException extends RuntimeException {
+        private final int status;
+
+        HttpStatusException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+
+        int status() {
+            return status;
+        }
+    }
+
+    /** Поток тела запроса, прерывающий чтение ответом 413, когда прочитано больше разрешённого. */
+    private final class LimitedInputStream extends FilterInputStream {
+        private long remaining;
+
+        LimitedInputStream(InputStream input, long limit) {
+            super(input);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                consume(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                consume(read);
+            }
+            return read;
+        }
+
+        private void consume(int bytes) {
+            remaining -= bytes;
+            if (remaining < 0) {
+                throw bodyTooLarge();
+            }
+        }
+    }
+}
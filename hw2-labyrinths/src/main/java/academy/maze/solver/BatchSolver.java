@@ -0,0 +1,121 @@
+package academy.maze.solver;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Решает много запросов к одному лабиринту параллельно. Лабиринт читается один раз, каждый рабочий поток
+ * {@link ForkJoinPool} берёт следующий запрос из общего счётчика, результаты возвращаются в порядке запросов.
+ *
+ * <p>Каждый поток решает свои запросы собственным сеансом {@link ReusableSolver}, поэтому массивы поиска выделяются
+ * один раз на поток, а не на запрос. Остальные решатели хранят состояние поиска в массивах, выделяемых на время одного
+ * вызова, и один их экземпляр безопасно используется из нескольких потоков. Решатели с индексом лабиринта
+ * ({@code junction}, {@code tree}, {@code alt}) строят его при первом запросе, который выполняется до запуска
+ * остальных, чтобы индекс не строился в нескольких потоках одновременно.
+ */
+public class BatchSolver {
+
+    private final Solver solver;
+    private final int parallelism;
+    private final boolean keepPaths;
+
+    /**
+     * Создаёт пакетный решатель.
+     *
+     * @param solver решатель для отдельных запросов
+     * @param parallelism число рабочих потоков
+     * @param keepPaths сохранять ли найденные пути в результатах; без них результат хранит только стоимость и длину
+     * @throws IllegalArgumentException если число потоков не положительно
+     */
+    public BatchSolver(Solver solver, int parallelism, boolean keepPaths) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        this.solver = solver;
+        this.parallelism = parallelism;
+        this.keepPaths = keepPaths;
+    }
+
+    /**
+     * Решает все запросы.
+     *
+     * @param maze лабиринт
+     * @param queries пары начальной и конечной точек
+     * @return результаты в порядке запросов
+     * @throws IllegalArgumentException если точка запроса вне лабиринта или в стене
+     */
+    public Result[] solve(Maze maze, List<Query> queries) {
+        for (Query query : queries) {
+            SolverUtils.validatePoints(maze, query.start(), query.end());
+        }
+
+        Result[] results = new Result[queries.size()];
+        if (results.length == 0) {
+            return results;
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.min(parallelism, results.length - 1);
+        if (workers <= 1) {
+            solveRemaining(maze, queries, results, next);
+            return results;
+        }
+
+        results[next.getAndIncrement()] = solve(solver, maze, queries.get(0));
+        try (ForkJoinPool pool = new ForkJoinPool(workers)) {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                tasks.add(pool.submit(() -> solveRemaining(maze, queries, results, next)));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        }
+        return results;
+    }
+
+    private void solveRemaining(Maze maze, List<Query> queries, Result[] results, AtomicInteger next) {
+        Solver session = newSession();
+        for (int i = next.getAndIncrement(); i < results.length; i = next.getAndIncrement()) {
+            results[i] = solve(session, maze, queries.get(i));
+        }
+    }
+
+    private Solver newSession() {
+        return solver instanceof ReusableSolver reusable ? reusable.newSession() : solver;
+    }
+
+    private Result solve(Solver session, Maze maze, Query query) {
+        Path path = session.solve(maze, query.start(), query.end());
+        int length = path.points().length;
+        int cost = length == 0 ? Result.NO_PATH : SolverUtils.pathCost(maze.grid(), path);
+        return new Result(cost, length, keepPaths ? path : null);
+    }
+
+    /**
+     * Запрос пути.
+     *
+     * @param start начальная точка
+     * @param end конечная точка
+     */
+    public record Query(Point start, Point end) {}
+
+    /**
+     * Результат запроса.
+     *
+     * @param cost стоимость пути или {@link #NO_PATH}, если путь не найден
+     * @param length число точек пути, 0 если путь не найден
+     * @param path найденный путь, пустой, если пути нет, или null, если пути не сохранялись
+     */
+    public record Result(int cost, int length, Path path) {
+
+        /** Стоимость для запроса без пути. */
+        public static final int NO_PATH = -1;
+    }
+}
@@ -0,0 +1,97 @@
+package academy.maze.solver;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Решатель, кеширующий найденные пути. Ключ кеша — хеш содержимого сетки ({@link CellGrid#fingerprint()}) и пара
+ * точек, поэтому повторный запрос к тому же лабиринту возвращает сохранённый путь, даже если лабиринт был прочитан
+ * заново. Размер кеша ограничен суммарным числом точек сохранённых путей, при превышении вытесняются редко
+ * используемые пути.
+ *
+ * <p>Хеш сетки считается за проход по всем ячейкам, поэтому он запоминается для последней сетки: серия запросов к
+ * одному лабиринту считает его один раз. Сетка узнаётся по ссылке, а не по содержимому, поэтому её нельзя изменять,
+ * пока решатель с ней работает: после изменения запросы продолжат получать пути, найденные для старого содержимого.
+ * Изменённый лабиринт нужно передавать новой сеткой. Путь без точек (путь не найден) тоже кешируется и весит как одна
+ * точка. Возвращаемые пути общие для всех запросов и не должны изменяться. Сеанс ({@link #newSession()}) решает промахи
+ * сеансом исходного решателя, если тот его поддерживает.
+ */
+public class CachingSolver implements ReusableSolver {
+
+    private final Solver delegate;
+    private final Cache<Key, Path> cache;
+    private volatile Fingerprint lastFingerprint;
+
+    /**
+     * Создаёт кеширующий решатель.
+     *
+     * @param delegate решатель для запросов, которых нет в кеше
+     * @param maximumWeight наибольшее суммарное число точек сохранённых путей
+     * @throws IllegalArgumentException если ограничение не положительно
+     */
+    public CachingSolver(Solver delegate, long maximumWeight) {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("Maximum cache weight must be positive: " + maximumWeight);
+        }
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Key key, Path path) -> Math.max(1, path.points().length))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Path solve(Maze maze, Point start, Point end) {
+        return solve(maze, start, end, delegate);
+    }
+
+    @Override
+    public Solver newSession() {
+        Solver session = delegate instanceof ReusableSolver reusable ? reusable.newSession() : delegate;
+        return (maze, start, end) -> solve(maze, start, end, session);
+    }
+
+    /**
+     * Возвращает статистику кеша: число попаданий, промахов и вытеснений.
+     *
+     * @return статистика с момента создания решателя
+     */
+    public CacheStats stats() {
+        cache.cleanUp();
+        return cache.stats();
+    }
+
+    /**
+     * Возвращает примерное число сохранённых путей.
+     *
+     * @return число записей кеша
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private Path solve(Maze maze, Point start, Point end, Solver solver) {
+        Key key = new Key(fingerprint(maze.grid()), start, end);
+        return cache.get(key, ignored -> solver.solve(maze, start, end));
+    }
+
+    private long fingerprint(CellGrid grid) {
+        Fingerprint last = lastFingerprint;
+        if (last != null && last.grid() == grid) {
+            return last.value();
+        }
+        long value = grid.fingerprint();
+        lastFingerprint = new Fingerprint(grid, value);
+        return value;
+    }
+
+    private record Key(long fingerprint, Point start, Point end) {}
+
+    private record Fingerprint(CellGrid grid, long value) {}
+}
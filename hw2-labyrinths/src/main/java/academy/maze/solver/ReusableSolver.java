@@ -0,0 +1,16 @@
+package academy.maze.solver;
+
+/**
+ * Решатель, рабочие массивы которого переиспользуются между запросами. Сеанс выделяет массивы по числу ячеек один раз,
+ * при первом запросе, а после каждого запроса сбрасывает только ячейки, затронутые поиском, поэтому серия коротких
+ * запросов к большому лабиринту не платит O(V) за каждый.
+ */
+public interface ReusableSolver extends Solver {
+
+    /**
+     * Создаёт сеанс для последовательных запросов. Сеанс не потокобезопасен: каждый поток создаёт свой.
+     *
+     * @return решатель, хранящий рабочие массивы между вызовами
+     */
+    Solver newSession();
+}
@@ -1,7 +1,15 @@
 package academy.maze.solver;
 
+import academy.maze.solver.impl.AltSolver;
 import academy.maze.solver.impl.AstarSolver;
+import academy.maze.solver.impl.BidirectionalSolver;
+import academy.maze.solver.impl.DialSolver;
 import academy.maze.solver.impl.DijkstraSolver;
+import academy.maze.solver.impl.JpsSolver;
+import academy.maze.solver.impl.JunctionGraphSolver;
+import academy.maze.solver.impl.TreeSolver;
+import java.util.Arrays;
+import java.util.stream.Collectors;
 
 /** Фабрика решателей лабиринтов. Позволяет создавать решатели по их типу. */
 public class SolverFactory {
@@ -17,6 +25,13 @@ public class SolverFactory {
         return switch (algorithm) {
             case ASTAR -> new AstarSolver();
             case DIJKSTRA -> new DijkstraSolver();
+            case DIAL -> new DialSolver();
+            case BIDIRECTIONAL -> new BidirectionalSolver();
+            case BIDIRECTIONAL_PARALLEL -> new BidirectionalSolver(true);
+            case JPS -> new JpsSolver();
+            case JUNCTION -> new JunctionGraphSolver();
+            case TREE -> new TreeSolver();
+            case ALT -> new AltSolver();
         };
     }
 
@@ -33,13 +48,26 @@ public class SolverFactory {
             return createSolver(type);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException(
-                    "Unknown solver algorithm: " + algorithmName + ". Supported algorithms: astar, dijkstra");
+                    "Unknown solver algorithm: " + algorithmName + ". Supported algorithms: " + supportedAlgorithms());
         }
     }
 
+    private static String supportedAlgorithms() {
+        return Arrays.stream(SolverType.values())
+                .map(type -> type.name().toLowerCase())
+                .collect(Collectors.joining(", "));
+    }
+
     /** Типы поддерживаемых алгоритмов решения лабиринтов. */
     public enum SolverType {
         ASTAR,
-        DIJKSTRA
+        DIJKSTRA,
+        DIAL,
+        BIDIRECTIONAL,
+        BIDIRECTIONAL_PARALLEL,
+        JPS,
+        JUNCTION,
+        TREE,
+        ALT
     }
 }
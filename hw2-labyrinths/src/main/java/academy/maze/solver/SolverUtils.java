@@ -1,7 +1,9 @@
 package academy.maze.solver;
 
+import academy.maze.dto.CellGrid;
 import academy.maze.dto.CellType;
 import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
 import academy.maze.dto.Point;
 import java.util.ArrayList;
 import java.util.List;
@@ -9,20 +11,28 @@ import java.util.List;
 /** Утилитарный класс для решения лабиринта */
 public class SolverUtils {
 
+    /** Отметка начальной ячейки в массиве предков. */
+    public static final int NO_PARENT = -1;
+
+    /** Результат {@link #uniformCost(CellGrid)} для сетки с разными стоимостями ячеек. */
+    public static final int NOT_UNIFORM = -1;
+
+    private static final int MAX_CELLS = Integer.MAX_VALUE - 8;
+
     /**
      * Получает список соседних точек (вверх, вниз, влево, вправо).
      *
-     * @param cells сетка ячеек лабиринта
+     * @param grid сетка ячеек лабиринта
      * @param point текущая точка
      * @return список соседних точек
      */
-    public static List<Point> getNeighbors(CellType[][] cells, Point point) {
+    public static List<Point> getNeighbors(CellGrid grid, Point point) {
         List<Point> neighbors = new ArrayList<>();
         int[][] directions = {{0, -1}, {0, 1}, {-1, 0}, {1, 0}};
 
         for (int[] dir : directions) {
             Point neighbor = new Point(point.x() + dir[0], point.y() + dir[1]);
-            if (isValidPoint(cells, neighbor)) {
+            if (isValidPoint(grid, neighbor)) {
                 neighbors.add(neighbor);
             }
         }
@@ -33,16 +43,12 @@ public class SolverUtils {
     /**
      * Проверяет, что точка находится внутри границ лабиринта и является проходимой.
      *
-     * @param cells сетка ячеек лабиринта
+     * @param grid сетка ячеек лабиринта
      * @param point проверяемая точка
      * @return true, если точка валидна, иначе false
      */
-    private static boolean isValidPoint(CellType[][] cells, Point point) {
-        return point.y() >= 0
-                && point.y() < cells.length
-                && point.x() >= 0
-                && point.x() < cells[0].length
-                && cells[point.y()][point.x()].isPassable();
+    private static boolean isValidPoint(CellGrid grid, Point point) {
+        return grid.contains(point.x(), point.y()) && grid.get(point.x(), point.y()).isPassable();
     }
 
     /**
@@ -53,14 +59,91 @@ public class SolverUtils {
      * @param end конечная точка.
      */
     public static void validatePoints(Maze maze, Point start, Point end) {
-        CellType[][] cells = maze.cells();
+        CellGrid grid = maze.grid();
 
-        if (!isValidPoint(cells, start)) {
+        if (!isValidPoint(grid, start)) {
             throw new IllegalArgumentException("Start point is out of bounds or is a wall: " + start);
         }
 
-        if (!isValidPoint(cells, end)) {
+        if (!isValidPoint(grid, end)) {
             throw new IllegalArgumentException("End point is out of bounds or is a wall: " + end);
         }
     }
+
+    /**
+     * Возвращает число ячеек сетки, проверяя, что по нему можно выделить массивы состояния поиска.
+     *
+     * @param grid сетка ячеек лабиринта
+     * @return width * height
+     * @throws IllegalArgumentException если ячеек больше, чем помещается в массив
+     */
+    public static int checkedCellCount(CellGrid grid) {
+        long cellCount = grid.cellCount();
+        if (cellCount > MAX_CELLS) {
+            throw new IllegalArgumentException(
+                    "Maze is too large to solve: width=" + grid.width() + ", height=" + grid.height());
+        }
+        return (int) cellCount;
+    }
+
+    /**
+     * Возвращает общую стоимость проходимых ячеек сетки.
+     *
+     * @param grid сетка ячеек лабиринта
+     * @return стоимость шага или {@link #NOT_UNIFORM}, если стоимости различаются
+     */
+    public static int uniformCost(CellGrid grid) {
+        int cost = NOT_UNIFORM;
+        for (int y = 0; y < grid.height(); y++) {
+            for (int x = 0; x < grid.width(); x++) {
+                CellType cell = grid.get(x, y);
+                if (!cell.isPassable()) {
+                    continue;
+                }
+                if (cost == NOT_UNIFORM) {
+                    cost = cell.getCost();
+                } else if (cost != cell.getCost()) {
+                    return NOT_UNIFORM;
+                }
+            }
+        }
+        return cost;
+    }
+
+    /**
+     * Считает стоимость пути: сумму стоимостей ячеек, в которые входит путь, без начальной.
+     *
+     * @param grid сетка ячеек лабиринта
+     * @param path путь
+     * @return стоимость пути, 0 для пустого пути
+     */
+    public static int pathCost(CellGrid grid, Path path) {
+        Point[] points = path.points();
+        int cost = 0;
+        for (int i = 1; i < points.length; i++) {
+            cost += grid.get(points[i].x(), points[i].y()).getCost();
+        }
+        return cost;
+    }
+
+    /**
+     * Восстанавливает путь по массиву предков, заполненному поиском по плоским индексам {@code y * width + x}.
+     *
+     * @param parent предки ячеек, у начальной ячейки {@link #NO_PARENT}
+     * @param end индекс конечной ячейки
+     * @param width ширина сетки
+     * @return путь от начала до конца
+     */
+    public static Path reconstructPath(int[] parent, int end, int width) {
+        int length = 0;
+        for (int i = end; i != NO_PARENT; i = parent[i]) {
+            length++;
+        }
+
+        Point[] points = new Point[length];
+        for (int i = end; i != NO_PARENT; i = parent[i]) {
+            points[--length] = new Point(i % width, i / width);
+        }
+        return new Path(points);
+    }
 }
@@ -0,0 +1,200 @@
+package academy.maze.solver.impl;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.solver.Solver;
+import academy.maze.solver.SolverUtils;
+import java.util.Arrays;
+
+/**
+ * Решатель лабиринта алгоритмом A* с эвристикой ALT (A*, landmarks, triangle inequality). Для лабиринта один раз
+ * строится {@link LandmarkIndex}, после чего нижняя оценка расстояния до цели берётся из таблиц расстояний до
+ * ориентиров. В отличие от манхэттенского расстояния, оценка допустима и при монетах с нулевой стоимостью и заметно
+ * точнее в извилистых лабиринтах, где путь намного длиннее расстояния по прямой.
+ *
+ * <p>Стоимость пути считается по входу в ячейку, поэтому расстояния несимметричны:
+ * {@code d(v, L) = d(L, v) + cost(L) - cost(v)}. Для ориентира {@code L} с таблицей {@code D = d(L, ·)} получаются две
+ * оценки: {@code D[t] - D[v]} и {@code D[v] - D[t] + cost(t) - cost(v)}. Обе согласованы, поэтому каждая ячейка
+ * извлекается из кучи окончательно не более одного раза.
+ *
+ * <p>Индекс переиспользуется, пока запросы идут к тому же экземпляру {@link Maze}; готовые таблицы, например
+ * прочитанные из файла, передаются через {@link #prepare(Maze, LandmarkIndex)}.
+ */
+public class AltSolver implements Solver {
+
+    /** Число ориентиров по умолчанию. */
+    public static final int DEFAULT_LANDMARK_COUNT = 8;
+
+    private static final int[] DX = {0, 0, -1, 1};
+    private static final int[] DY = {-1, 1, 0, 0};
+    private static final int UNKNOWN = -1;
+
+    private final int landmarkCount;
+
+    private volatile Prepared prepared;
+
+    public AltSolver() {
+        this(DEFAULT_LANDMARK_COUNT);
+    }
+
+    /**
+     * Создаёт решатель с заданным числом ориентиров.
+     *
+     * @param landmarkCount число ориентиров
+     * @throws IllegalArgumentException если число ориентиров не положительно
+     */
+    public AltSolver(int landmarkCount) {
+        if (landmarkCount <= 0) {
+            throw new IllegalArgumentException("Landmark count must be positive: " + landmarkCount);
+        }
+        this.landmarkCount = landmarkCount;
+    }
+
+    @Override
+    public Path solve(Maze maze, Point start, Point end) {
+        SolverUtils.validatePoints(maze, start, end);
+
+        LandmarkIndex index = index(maze);
+        CellGrid grid = maze.grid();
+        int width = grid.width();
+        int cellCount = SolverUtils.checkedCellCount(grid);
+        int endIndex = end.y() * width + end.x();
+        Heuristic heuristic = new Heuristic(grid, index, endIndex);
+
+        int[] gScore = new int[cellCount];
+        int[] hScore = new int[cellCount];
+        int[] parent = new int[cellCount];
+        Arrays.fill(gScore, Integer.MAX_VALUE);
+        Arrays.fill(hScore, UNKNOWN);
+
+        LongMinHeap openSet = new LongMinHeap();
+        int startIndex = start.y() * width + start.x();
+        gScore[startIndex] = 0;
+        hScore[startIndex] = heuristic.estimate(startIndex);
+        parent[startIndex] = SolverUtils.NO_PARENT;
+        openSet.push(LongMinHeap.pack(hScore[startIndex], startIndex));
+
+        while (!openSet.isEmpty()) {
+            long entry = openSet.pop();
+            int current = LongMinHeap.index(entry);
+            int g = gScore[current];
+
+            if (LongMinHeap.priority(entry) != g + hScore[current]) {
+                continue;
+            }
+
+            if (current == endIndex) {
+                return SolverUtils.reconstructPath(parent, endIndex, width);
+            }
+
+            int x = current % width;
+            int y = current / width;
+            for (int d = 0; d < DX.length; d++) {
+                int nx = x + DX[d];
+                int ny = y + DY[d];
+                if (!grid.contains(nx, ny)) {
+                    continue;
+                }
+
+                CellType cell = grid.get(nx, ny);
+                if (!cell.isPassable()) {
+                    continue;
+                }
+
+                int neighbor = ny * width + nx;
+                int tentativeGScore = g + cell.getCost();
+                if (tentativeGScore < gScore[neighbor]) {
+                    if (hScore[neighbor] == UNKNOWN) {
+                        hScore[neighbor] = heuristic.estimate(neighbor);
+                    }
+                    gScore[neighbor] = tentativeGScore;
+                    parent[neighbor] = current;
+                    openSet.push(LongMinHeap.pack(tentativeGScore + hScore[neighbor], neighbor));
+                }
+            }
+        }
+
+        return new Path(new Point[0]);
+    }
+
+    /**
+     * Возвращает индекс ориентиров для лабиринта, строя его только при смене лабиринта.
+     *
+     * @param maze лабиринт
+     * @return индекс ориентиров
+     */
+    public LandmarkIndex index(Maze maze) {
+        Prepared current = prepared;
+        if (current == null || current.maze() != maze) {
+            current = new Prepared(maze, LandmarkIndex.build(maze.grid(), landmarkCount));
+            prepared = current;
+        }
+        return current.index();
+    }
+
+    /**
+     * Использует готовый индекс ориентиров для лабиринта вместо построения нового.
+     *
+     * @param maze лабиринт
+     * @param index индекс, посчитанный для этого лабиринта
+     * @throws IllegalArgumentException если индекс посчитан для другого лабиринта
+     */
+    public void prepare(Maze maze, LandmarkIndex index) {
+        if (!index.matches(maze.grid())) {
+            throw new IllegalArgumentException("Landmark index does not match the maze");
+        }
+        prepared = new Prepared(maze, index);
+    }
+
+    /** Нижняя оценка расстояния до фиксированной цели по таблицам ориентиров. */
+    private static final class Heuristic {
+
+        private final CellGrid grid;
+        private final int width;
+        private final int[][] tables;
+        private final int[] targetDistances;
+        private final int targetCost;
+
+        Heuristic(CellGrid grid, LandmarkIndex index, int target) {
+            this.grid = grid;
+            this.width = grid.width();
+            this.targetCost = grid.get(target % width, target / width).getCost();
+
+            // Ориентиры из другой компоненты связности ничего не говорят о цели
+            int[][] useful = new int[index.landmarkCount()][];
+            int[] targetDistance = new int[useful.length];
+            int count = 0;
+            for (int i = 0; i < useful.length; i++) {
+                int[] table = index.distances(i);
+                if (table[target] != LandmarkIndex.UNREACHED) {
+                    useful[count] = table;
+                    targetDistance[count] = table[target];
+                    count++;
+                }
+            }
+            this.tables = Arrays.copyOf(useful, count);
+            this.targetDistances = Arrays.copyOf(targetDistance, count);
+        }
+
+        int estimate(int cell) {
+            int cellCost = grid.get(cell % width, cell / width).getCost();
+            int best = 0;
+            for (int i = 0; i < tables.length; i++) {
+                int distance = tables[i][cell];
+                if (distance == LandmarkIndex.UNREACHED) {
+                    continue;
+                }
+                int toTarget = targetDistances[i];
+                best = Math.max(best, toTarget - distance);
+                best = Math.max(best, distance - toTarget + targetCost - cellCost);
+            }
+            return best;
+        }
+    }
+
+    /** Лабиринт и построенный для него индекс ориентиров. */
+    private record Prepared(Maze maze, LandmarkIndex index) {}
+}
@@ -1,60 +1,104 @@
 package academy.maze.solver.impl;
 
+import academy.maze.dto.CellGrid;
 import academy.maze.dto.CellType;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Path;
 import academy.maze.dto.Point;
+import academy.maze.solver.ReusableSolver;
 import academy.maze.solver.Solver;
 import academy.maze.solver.SolverUtils;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.PriorityQueue;
-
-/** Решатель лабиринта алгоритмом A* (A-star). */
-public class AstarSolver implements Solver {
+import java.util.Arrays;
+
+/**
+ * Решатель лабиринта алгоритмом A* (A-star).
+ *
+ * <p>Состояние поиска хранится в примитивных массивах по плоскому индексу ячейки {@code y * width + x}: стоимость
+ * пути {@code gScore} и предок {@code parent}. Открытое множество — двоичная куча упакованных {@code long}
+ * (f-оценка в старших 32 битах, индекс в младших), устаревшие записи пропускаются при извлечении. Во время поиска не
+ * создаётся ни одного объекта на ячейку, точки пути строятся только в конце. Сеанс ({@link #newSession()}) хранит
+ * массивы и кучу между запросами и сбрасывает только достигнутые ячейки.
+ */
+public class AstarSolver implements ReusableSolver {
+
+    private static final int[] DX = {0, 0, -1, 1};
+    private static final int[] DY = {-1, 1, 0, 0};
 
     @Override
     public Path solve(Maze maze, Point start, Point end) {
         SolverUtils.validatePoints(maze, start, end);
 
-        CellType[][] cells = maze.cells();
-
-        Map<Point, Node> visited = new HashMap<>();
+        int cellCount = SolverUtils.checkedCellCount(maze.grid());
+        int[] gScore = new int[cellCount];
+        Arrays.fill(gScore, Integer.MAX_VALUE);
+        return search(maze.grid(), start, end, gScore, new int[cellCount], new LongMinHeap(), null);
+    }
 
-        PriorityQueue<Node> openSet = new PriorityQueue<>(Comparator.comparingDouble(n -> n.fScore));
+    @Override
+    public Solver newSession() {
+        return new Session();
+    }
 
-        Node startNode = new Node(start, 0, heuristic(start, end), null);
-        openSet.add(startNode);
+    /**
+     * Поиск A* по заранее заполненному {@link Integer#MAX_VALUE} массиву стоимостей.
+     *
+     * @param grid сетка ячеек лабиринта
+     * @param start начальная точка
+     * @param end конечная точка
+     * @param gScore массив стоимостей путей, заполняется поиском
+     * @param parent массив предков
+     * @param openSet пустая куча, после раннего выхода в ней остаются элементы
+     * @param reached список для индексов достигнутых ячеек или null
+     * @return путь в лабиринте
+     */
+    private static Path search(
+            CellGrid grid, Point start, Point end, int[] gScore, int[] parent, LongMinHeap openSet, IntList reached) {
+        int width = grid.width();
+        int endIndex = end.y() * width + end.x();
+        int startIndex = start.y() * width + start.x();
+        if (reached != null) {
+            reached.add(startIndex);
+        }
+        gScore[startIndex] = 0;
+        parent[startIndex] = SolverUtils.NO_PARENT;
+        openSet.push(LongMinHeap.pack(heuristic(start.x(), start.y(), end), startIndex));
 
         while (!openSet.isEmpty()) {
-            Node current = openSet.poll();
+            long entry = openSet.pop();
+            int current = LongMinHeap.index(entry);
+            int x = current % width;
+            int y = current / width;
+            int g = gScore[current];
+
+            if (LongMinHeap.priority(entry) != g + heuristic(x, y, end)) {
+                continue;
+            }
 
-            if (current.point.equals(end)) {
-                return reconstructPath(current);
+            if (current == endIndex) {
+                return SolverUtils.reconstructPath(parent, endIndex, width);
             }
 
-            if (visited.containsKey(current.point)) {
-                Node existingNode = visited.get(current.point);
-                if (existingNode.gScore <= current.gScore) {
+            for (int d = 0; d < DX.length; d++) {
+                int nx = x + DX[d];
+                int ny = y + DY[d];
+                if (!grid.contains(nx, ny)) {
                     continue;
                 }
-            }
-
-            visited.put(current.point, current);
 
-            for (Point neighbor : SolverUtils.getNeighbors(cells, current.point)) {
-                int cellCost = cells[neighbor.y()][neighbor.x()].getCost();
-                double tentativeGScore = current.gScore + cellCost;
-
-                if (!visited.containsKey(neighbor) || tentativeGScore < visited.get(neighbor).gScore) {
+                CellType cell = grid.get(nx, ny);
+                if (!cell.isPassable()) {
+                    continue;
+                }
 
-                    double hScore = heuristic(neighbor, end);
-                    Node neighborNode = new Node(neighbor, tentativeGScore, tentativeGScore + hScore, current);
-                    openSet.add(neighborNode);
+                int neighbor = ny * width + nx;
+                int tentativeGScore = g + cell.getCost();
+                if (tentativeGScore < gScore[neighbor]) {
+                    if (reached != null && gScore[neighbor] == Integer.MAX_VALUE) {
+                        reached.add(neighbor);
+                    }
+                    gScore[neighbor] = tentativeGScore;
+                    parent[neighbor] = current;
+                    openSet.push(LongMinHeap.pack(tentativeGScore + heuristic(nx, ny, end), neighbor));
                 }
             }
         }
@@ -65,33 +109,42 @@ public class AstarSolver implements Solver {
     /**
      * Эвристическая функция - Manhattan distance
      *
-     * @param a первая точка
-     * @param b вторая точка
-     * @return эвристическое расстояние между точками
+     * @param x координата x текущей ячейки
+     * @param y координата y текущей ячейки
+     * @param end конечная точка
+     * @return эвристическое расстояние до конечной точки
      */
-    private double heuristic(Point a, Point b) {
-        return Math.abs(a.x() - b.x()) + Math.abs(a.y() - b.y());
+    private static int heuristic(int x, int y, Point end) {
+        return Math.abs(x - end.x()) + Math.abs(y - end.y());
     }
 
-    /**
-     * Восстанавливает путь от конечной точки до начальной.
-     *
-     * @param endNode конечный узел
-     * @return путь от начала до конца
-     */
-    private Path reconstructPath(Node endNode) {
-        List<Point> pathList = new ArrayList<>();
-        Node current = endNode;
+    /** Сеанс поиска с массивами и кучей, переживающими запрос. */
+    private static final class Session implements Solver {
+        private final LongMinHeap openSet = new LongMinHeap();
+        private final IntList reached = new IntList();
+        private int[] gScore = new int[0];
+        private int[] parent = new int[0];
+
+        @Override
+        public Path solve(Maze maze, Point start, Point end) {
+            SolverUtils.validatePoints(maze, start, end);
+
+            int cellCount = SolverUtils.checkedCellCount(maze.grid());
+            if (gScore.length != cellCount) {
+                gScore = new int[cellCount];
+                parent = new int[cellCount];
+                Arrays.fill(gScore, Integer.MAX_VALUE);
+            }
 
-        while (current != null) {
-            pathList.add(current.point);
-            current = current.parent;
+            try {
+                return search(maze.grid(), start, end, gScore, parent, openSet, reached);
+            } finally {
+                for (int i = 0; i < reached.size(); i++) {
+                    gScore[reached.get(i)] = Integer.MAX_VALUE;
+                }
+                reached.clear();
+                openSet.clear();
+            }
         }
-
-        Collections.reverse(pathList);
-        return new Path(pathList.toArray(new Point[0]));
     }
-
-    /** Внутренний класс для представления узла в алгоритме A*. */
-    private record Node(Point point, double gScore, double fScore, Node parent) {}
 }
@@ -0,0 +1,275 @@
+package academy.maze.solver.impl;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.solver.Solver;
+import academy.maze.solver.SolverUtils;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Решатель лабиринта двунаправленным алгоритмом Дейкстры. Поиск идёт одновременно от старта и от финиша, и фронты
+ * встречаются примерно посередине, поэтому на длинных запросах просматривается заметно меньше ячеек. Выигрыш есть
+ * только в лабиринтах с циклами: в идеальном лабиринте путь между точками единственный, фронты просматривают почти те
+ * же тупики, что и однонаправленный поиск, и лишь платят за две очереди, поэтому для таких лабиринтов лучше
+ * {@link DialSolver} или {@link TreeSolver}.
+ *
+ * <p>Стоимость платится за вход в ячейку, поэтому обратный поиск при переходе из ячейки {@code v} в соседа платит
+ * стоимость самой {@code v}. Лучшая найденная встреча {@code mu} — минимум {@code df(m) + db(m)} по ячейкам, которых
+ * достигли оба фронта. Поиск останавливается, когда сумма минимальных ключей обоих фронтов не меньше {@code mu}:
+ * любой более короткий путь уже прошёл бы через ячейки, просканированные обоими фронтами.
+ *
+ * <p>В параллельном режиме обратный фронт работает в виртуальном потоке, чтобы запрос не создавал поток ОС, и фронты
+ * читают расстояния друг друга из {@link AtomicIntegerArray} без блокировок. Каждый фронт публикует свой минимальный
+ * ключ после сканирования ячейки, а ключи только растут, поэтому устаревшее значение чужого ключа лишь откладывает
+ * остановку и не нарушает её корректность.
+ */
+public class BidirectionalSolver implements Solver {
+
+    private static final int[] DX = {0, 0, -1, 1};
+    private static final int[] DY = {-1, 1, 0, 0};
+    private static final int UNREACHED = Integer.MAX_VALUE;
+    private static final long NO_MEETING = Long.MAX_VALUE;
+
+    private final boolean parallel;
+
+    public BidirectionalSolver() {
+        this(false);
+    }
+
+    /**
+     * Создаёт решатель.
+     *
+     * @param parallel true, чтобы прямой и обратный фронты работали в отдельных потоках
+     */
+    public BidirectionalSolver(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    @Override
+    public Path solve(Maze maze, Point start, Point end) {
+        SolverUtils.validatePoints(maze, start, end);
+
+        CellGrid grid = maze.grid();
+        int width = grid.width();
+        int cellCount = SolverUtils.checkedCellCount(grid);
+        int startIndex = start.y() * width + start.x();
+        int endIndex = end.y() * width + end.x();
+        if (startIndex == endIndex) {
+            return new Path(new Point[] {start});
+        }
+
+        Search search = new Search(grid);
+        Frontier forward = new Frontier(search, cellCount, false, parallel);
+        Frontier backward = new Frontier(search, cellCount, true, parallel);
+        forward.other = backward;
+        backward.other = forward;
+        forward.open(startIndex);
+        backward.open(endIndex);
+
+        if (parallel) {
+            runInParallel(search, forward, backward);
+        } else {
+            runSequentially(forward, backward);
+        }
+
+        long meeting = search.meeting.get();
+        if (meeting == NO_MEETING) {
+            return new Path(new Point[0]);
+        }
+        return joinPath(forward.parent, backward.parent, (int) meeting, width);
+    }
+
+    private void runSequentially(Frontier forward, Frontier backward) {
+        boolean running = true;
+        while (running) {
+            Frontier side = forward.top() <= backward.top() ? forward : backward;
+            running = side.step();
+        }
+    }
+
+    private void runInParallel(Search search, Frontier forward, Frontier backward) {
+        Thread backwardThread = Thread.ofVirtual().start(() -> run(search, backward));
+        run(search, forward);
+
+        try {
+            backwardThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for backward search", e);
+        }
+    }
+
+    private static void run(Search search, Frontier frontier) {
+        while (!search.done && frontier.step()) {
+            // фронт работает, пока не выполнено условие остановки
+        }
+        search.done = true;
+    }
+
+    /**
+     * Склеивает путь от старта до ячейки встречи с путём от неё до финиша.
+     *
+     * @param forwardParent предки прямого поиска
+     * @param backwardParent предки обратного поиска (следующая ячейка на пути к финишу)
+     * @param meeting индекс ячейки встречи
+     * @param width ширина сетки
+     * @return путь от начала до конца
+     */
+    private static Path joinPath(int[] forwardParent, int[] backwardParent, int meeting, int width) {
+        Point[] head = SolverUtils.reconstructPath(forwardParent, meeting, width).points();
+
+        int tailLength = 0;
+        for (int i = backwardParent[meeting]; i != SolverUtils.NO_PARENT; i = backwardParent[i]) {
+            tailLength++;
+        }
+
+        Point[] points = new Point[head.length + tailLength];
+        System.arraycopy(head, 0, points, 0, head.length);
+        int k = head.length;
+        for (int i = backwardParent[meeting]; i != SolverUtils.NO_PARENT; i = backwardParent[i]) {
+            points[k++] = new Point(i % width, i / width);
+        }
+        return new Path(points);
+    }
+
+    /** Общее состояние двух фронтов: сетка, лучшая встреча и флаг остановки. */
+    private static final class Search {
+        private final CellGrid grid;
+        private final int width;
+        /** Лучшая встреча, упакованная как {@code cost << 32 | cellIndex}. */
+        private final AtomicLong meeting = new AtomicLong(NO_MEETING);
+
+        private volatile boolean done;
+
+        Search(CellGrid grid) {
+            this.grid = grid;
+            this.width = grid.width();
+        }
+
+        long meetingCost() {
+            long current = meeting.get();
+            return current == NO_MEETING ? Long.MAX_VALUE : current >>> 32;
+        }
+
+        void offer(int cost, int cell) {
+            long candidate = LongMinHeap.pack(cost, cell);
+            if (candidate < meeting.get()) {
+                meeting.accumulateAndGet(candidate, Math::min);
+            }
+        }
+    }
+
+    /** Один фронт поиска: куча, расстояния и предки. */
+    private static final class Frontier {
+        private final Search search;
+        private final boolean backward;
+        private final boolean concurrent;
+        private final AtomicIntegerArray distance;
+        private final int[] parent;
+        private final LongMinHeap heap = new LongMinHeap();
+
+        private Frontier other;
+        private volatile int publishedTop;
+
+        Frontier(Search search, int cellCount, boolean backward, boolean concurrent) {
+            this.search = search;
+            this.backward = backward;
+            this.concurrent = concurrent;
+            this.distance = new AtomicIntegerArray(cellCount);
+            this.parent = new int[cellCount];
+            for (int i = 0; i < cellCount; i++) {
+                distance.setPlain(i, UNREACHED);
+            }
+        }
+
+        void open(int cell) {
+            distance.set(cell, 0);
+            parent[cell] = SolverUtils.NO_PARENT;
+            heap.push(LongMinHeap.pack(0, cell));
+        }
+
+        int top() {
+            return heap.isEmpty() ? UNREACHED : LongMinHeap.priority(heap.peek());
+        }
+
+        int distance(int cell) {
+            return concurrent ? distance.get(cell) : distance.getPlain(cell);
+        }
+
+        /**
+         * Сканирует ячейку с минимальным ключом.
+         *
+         * @return false, если поиск нужно остановить
+         */
+        boolean step() {
+            while (!heap.isEmpty()) {
+                long entry = heap.peek();
+                int current = LongMinHeap.index(entry);
+                int d = LongMinHeap.priority(entry);
+                if (d != distance.getPlain(current)) {
+                    heap.pop();
+                    continue;
+                }
+
+                int otherTop = concurrent ? other.publishedTop : other.top();
+                if ((long) d + otherTop >= search.meetingCost()) {
+                    return false;
+                }
+
+                heap.pop();
+                scan(current, d);
+                if (concurrent) {
+                    publishedTop = top();
+                }
+                return true;
+            }
+
+            publishedTop = UNREACHED;
+            return false;
+        }
+
+        private void scan(int current, int d) {
+            CellGrid grid = search.grid;
+            int width = search.width;
+            int x = current % width;
+            int y = current / width;
+            int currentCost = backward ? grid.get(x, y).getCost() : 0;
+
+            for (int dir = 0; dir < DX.length; dir++) {
+                int nx = x + DX[dir];
+                int ny = y + DY[dir];
+                if (!grid.contains(nx, ny)) {
+                    continue;
+                }
+
+                CellType cell = grid.get(nx, ny);
+                if (!cell.isPassable()) {
+                    continue;
+                }
+
+                int neighbor = ny * width + nx;
+                int newDistance = d + (backward ? currentCost : cell.getCost());
+                int neighborDistance = distance.getPlain(neighbor);
+                if (newDistance < neighborDistance) {
+                    neighborDistance = newDistance;
+                    if (concurrent) {
+                        distance.set(neighbor, newDistance);
+                    } else {
+                        distance.setPlain(neighbor, newDistance);
+                    }
+                    parent[neighbor] = current;
+                    heap.push(LongMinHeap.pack(newDistance, neighbor));
+                }
+
+                int otherDistance = other.distance(neighbor);
+                if (otherDistance != UNREACHED) {
+                    search.offer(neighborDistance + otherDistance, neighbor);
+                }
+            }
+        }
+    }
+}
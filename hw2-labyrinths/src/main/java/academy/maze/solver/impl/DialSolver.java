@@ -0,0 +1,213 @@
+package academy.maze.solver.impl;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.solver.ReusableSolver;
+import academy.maze.solver.Solver;
+import academy.maze.solver.SolverUtils;
+import java.util.Arrays;
+
+/**
+ * Решатель лабиринта алгоритмом Дейкстры с очередью Дайала. Стоимости ячеек — малые целые числа, поэтому вместо кучи
+ * используется кольцо из {@code maxCost + 1} корзин: корзина {@code d % buckets} хранит ячейки с расстоянием
+ * {@code d}, и извлечение минимума сводится к переходу к следующей непустой корзине. Время работы O(V + C), где C —
+ * длина кратчайшего пути.
+ *
+ * <p>Ячейки с нулевой стоимостью (монеты) попадают в начало текущей корзины и обрабатываются сразу, как в 0-1 BFS.
+ * Сеанс ({@link #newSession()}) хранит массивы и корзины между запросами и сбрасывает только достигнутые ячейки.
+ */
+public class DialSolver implements ReusableSolver {
+
+    private static final int[] DX = {0, 0, -1, 1};
+    private static final int[] DY = {-1, 1, 0, 0};
+    private static final int BUCKET_COUNT = maxPassableCost() + 1;
+
+    @Override
+    public Path solve(Maze maze, Point start, Point end) {
+        SolverUtils.validatePoints(maze, start, end);
+
+        CellGrid grid = maze.grid();
+        int width = grid.width();
+        int cellCount = SolverUtils.checkedCellCount(grid);
+        int endIndex = end.y() * width + end.x();
+
+        int[] distance = new int[cellCount];
+        int[] parent = new int[cellCount];
+        search(grid, start.y() * width + start.x(), endIndex, distance, parent);
+
+        return distance[endIndex] == Integer.MAX_VALUE
+                ? new Path(new Point[0])
+                : SolverUtils.reconstructPath(parent, endIndex, width);
+    }
+
+    @Override
+    public Solver newSession() {
+        return new Session();
+    }
+
+    /**
+     * Считает расстояния от ячейки до всех достижимых ячеек сетки.
+     *
+     * @param grid сетка ячеек лабиринта
+     * @param source индекс начальной ячейки
+     * @return расстояния по индексам ячеек, {@link Integer#MAX_VALUE} для недостижимых
+     */
+    static int[] distancesFrom(CellGrid grid, int source) {
+        int[] distance = new int[SolverUtils.checkedCellCount(grid)];
+        search(grid, source, SolverUtils.NO_PARENT, distance, null);
+        return distance;
+    }
+
+    /**
+     * Поиск Дейкстры с очередью Дайала. Останавливается, когда извлечена целевая ячейка, или обходит всю компоненту,
+     * если цель не задана.
+     *
+     * @param grid сетка ячеек лабиринта
+     * @param source индекс начальной ячейки
+     * @param target индекс целевой ячейки или {@link SolverUtils#NO_PARENT}
+     * @param distance массив расстояний, заполняется поиском
+     * @param parent массив предков или null, если путь восстанавливать не нужно
+     */
+    static void search(CellGrid grid, int source, int target, int[] distance, int[] parent) {
+        Arrays.fill(distance, Integer.MAX_VALUE);
+        search(grid, source, target, distance, parent, newBuckets(), null);
+    }
+
+    /**
+     * Поиск по заранее заполненному {@link Integer#MAX_VALUE} массиву расстояний с переданными корзинами.
+     *
+     * @param grid сетка ячеек лабиринта
+     * @param source индекс начальной ячейки
+     * @param target индекс целевой ячейки или {@link SolverUtils#NO_PARENT}
+     * @param distance массив расстояний, заполняется поиском
+     * @param parent массив предков или null, если путь восстанавливать не нужно
+     * @param buckets пустые корзины, после раннего выхода в них остаются ячейки
+     * @param reached список для индексов достигнутых ячеек или null
+     */
+    private static void search(
+            CellGrid grid, int source, int target, int[] distance, int[] parent, IntDeque[] buckets, IntList reached) {
+        int width = grid.width();
+        if (reached != null) {
+            reached.add(source);
+        }
+        distance[source] = 0;
+        if (parent != null) {
+            parent[source] = SolverUtils.NO_PARENT;
+        }
+        buckets[0].addLast(source);
+        int pending = 1;
+
+        for (int d = 0; pending > 0; d++) {
+            IntDeque bucket = buckets[d % BUCKET_COUNT];
+            while (!bucket.isEmpty()) {
+                int current = bucket.pollFirst();
+                pending--;
+                if (distance[current] != d) {
+                    continue;
+                }
+
+                if (current == target) {
+                    return;
+                }
+
+                int x = current % width;
+                int y = current / width;
+                for (int dir = 0; dir < DX.length; dir++) {
+                    int nx = x + DX[dir];
+                    int ny = y + DY[dir];
+                    if (!grid.contains(nx, ny)) {
+                        continue;
+                    }
+
+                    CellType cell = grid.get(nx, ny);
+                    if (!cell.isPassable()) {
+                        continue;
+                    }
+
+                    int neighbor = ny * width + nx;
+                    int cost = cell.getCost();
+                    int newDistance = d + cost;
+                    if (newDistance < distance[neighbor]) {
+                        if (reached != null && distance[neighbor] == Integer.MAX_VALUE) {
+                            reached.add(neighbor);
+                        }
+                        distance[neighbor] = newDistance;
+                        if (parent != null) {
+                            parent[neighbor] = current;
+                        }
+                        if (cost == 0) {
+                            bucket.addFirst(neighbor);
+                        } else {
+                            buckets[newDistance % BUCKET_COUNT].addLast(neighbor);
+                        }
+                        pending++;
+                    }
+                }
+            }
+        }
+    }
+
+    private static IntDeque[] newBuckets() {
+        IntDeque[] buckets = new IntDeque[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new IntDeque();
+        }
+        return buckets;
+    }
+
+    /**
+     * Находит наибольшую стоимость прохождения среди проходимых типов ячеек.
+     *
+     * @return максимальная стоимость
+     */
+    private static int maxPassableCost() {
+        int max = 0;
+        for (CellType type : CellType.values()) {
+            if (type.isPassable()) {
+                max = Math.max(max, type.getCost());
+            }
+        }
+        return max;
+    }
+
+    /** Сеанс поиска с массивами и корзинами, переживающими запрос. */
+    private static final class Session implements Solver {
+        private final IntDeque[] buckets = newBuckets();
+        private final IntList reached = new IntList();
+        private int[] distance = new int[0];
+        private int[] parent = new int[0];
+
+        @Override
+        public Path solve(Maze maze, Point start, Point end) {
+            SolverUtils.validatePoints(maze, start, end);
+
+            CellGrid grid = maze.grid();
+            int width = grid.width();
+            int cellCount = SolverUtils.checkedCellCount(grid);
+            if (distance.length != cellCount) {
+                distance = new int[cellCount];
+                parent = new int[cellCount];
+                Arrays.fill(distance, Integer.MAX_VALUE);
+            }
+
+            int endIndex = end.y() * width + end.x();
+            try {
+                search(grid, start.y() * width + start.x(), endIndex, distance, parent, buckets, reached);
+                return distance[endIndex] == Integer.MAX_VALUE
+                        ? new Path(new Point[0])
+                        : SolverUtils.reconstructPath(parent, endIndex, width);
+            } finally {
+                for (int i = 0; i < reached.size(); i++) {
+                    distance[reached.get(i)] = Integer.MAX_VALUE;
+                }
+                reached.clear();
+                for (IntDeque bucket : buckets) {
+                    bucket.clear();
+                }
+            }
+        }
+    }
+}
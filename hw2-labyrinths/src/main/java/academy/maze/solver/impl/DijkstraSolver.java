@@ -1,6 +1,6 @@
 package academy.maze.solver.impl;
 
-import academy.maze.dto.CellType;
+import academy.maze.dto.CellGrid;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Path;
 import academy.maze.dto.Point;
@@ -21,7 +21,7 @@ public class DijkstraSolver implements Solver {
     public Path solve(Maze maze, Point start, Point end) {
         SolverUtils.validatePoints(maze, start, end);
 
-        CellType[][] cells = maze.cells();
+        CellGrid grid = maze.grid();
 
         Map<Point, Double> distances = new HashMap<>();
         distances.put(start, 0.0);
@@ -47,13 +47,13 @@ public class DijkstraSolver implements Solver {
                 return reconstructPath(predecessors, start, end);
             }
 
-            for (Point neighbor : SolverUtils.getNeighbors(cells, current.point)) {
+            for (Point neighbor : SolverUtils.getNeighbors(grid, current.point)) {
                 if (visited.getOrDefault(neighbor, false)) {
                     continue;
                 }
 
                 // Учитываем стоимость прохождения через клетку
-                int cellCost = cells[neighbor.y()][neighbor.x()].getCost();
+                int cellCost = grid.get(neighbor.x(), neighbor.y()).getCost();
                 double newDistance = current.distance + cellCost;
                 double oldDistance = distances.getOrDefault(neighbor, Double.POSITIVE_INFINITY);
 
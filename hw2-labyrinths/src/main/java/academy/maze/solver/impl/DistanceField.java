@@ -0,0 +1,178 @@
+package academy.maze.solver.impl;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.solver.SolverUtils;
+
+/**
+ * Поле расстояний от одной точки до всех ячеек лабиринта (flow field). Считается одним проходом алгоритма Дейкстры с
+ * очередью Дайала и хранится плотно: расстояние {@code int} и направление к предку {@code byte} на ячейку. Путь от
+ * источника до любой ячейки восстанавливается проходом по направлениям, без повторного поиска.
+ */
+public final class DistanceField {
+
+    /** Расстояние до недостижимой ячейки. */
+    public static final int UNREACHED = Integer.MAX_VALUE;
+
+    /** Нет предка: источник, стена или недостижимая ячейка. */
+    public static final byte NONE = 0;
+
+    /** Предок выше ({@code y - 1}). */
+    public static final byte UP = 1;
+
+    /** Предок ниже ({@code y + 1}). */
+    public static final byte DOWN = 2;
+
+    /** Предок левее ({@code x - 1}). */
+    public static final byte LEFT = 3;
+
+    /** Предок правее ({@code x + 1}). */
+    public static final byte RIGHT = 4;
+
+    private final int width;
+    private final int height;
+    private final Point source;
+    private final int[] distances;
+    private final byte[] directions;
+
+    /**
+     * Создаёт поле из готовых массивов, например прочитанных из файла.
+     *
+     * @param width ширина сетки
+     * @param height высота сетки
+     * @param source источник
+     * @param distances расстояния по индексам ячеек {@code y * width + x}
+     * @param directions направления к предку по индексам ячеек
+     * @throws IllegalArgumentException если размеры массивов не совпадают с размерами сетки
+     */
+    public DistanceField(int width, int height, Point source, int[] distances, byte[] directions) {
+        long cellCount = (long) width * height;
+        if (distances.length != cellCount || directions.length != cellCount) {
+            throw new IllegalArgumentException("Distance field arrays do not match grid " + width + "x" + height);
+        }
+
+        this.width = width;
+        this.height = height;
+        this.source = source;
+        this.distances = distances;
+        this.directions = directions;
+    }
+
+    /**
+     * Считает поле расстояний от точки.
+     *
+     * @param maze лабиринт
+     * @param source источник
+     * @return поле расстояний
+     * @throws IllegalArgumentException если источник вне лабиринта или в стене
+     */
+    public static DistanceField compute(Maze maze, Point source) {
+        SolverUtils.validatePoints(maze, source, source);
+
+        CellGrid grid = maze.grid();
+        int width = grid.width();
+        int cellCount = SolverUtils.checkedCellCount(grid);
+        int[] distances = new int[cellCount];
+        int[] parent = new int[cellCount];
+        DialSolver.search(grid, source.y() * width + source.x(), SolverUtils.NO_PARENT, distances, parent);
+
+        byte[] directions = new byte[cellCount];
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (distances[cell] != UNREACHED && parent[cell] != SolverUtils.NO_PARENT) {
+                directions[cell] = direction(cell, parent[cell], width);
+            }
+        }
+
+        return new DistanceField(width, grid.height(), source, distances, directions);
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public Point source() {
+        return source;
+    }
+
+    /**
+     * Возвращает расстояния по индексам ячеек. Массив не копируется и не должен изменяться.
+     *
+     * @return расстояния, {@link #UNREACHED} для недостижимых ячеек
+     */
+    public int[] distances() {
+        return distances;
+    }
+
+    /**
+     * Возвращает направления к предку по индексам ячеек. Массив не копируется и не должен изменяться.
+     *
+     * @return направления {@link #UP}, {@link #DOWN}, {@link #LEFT}, {@link #RIGHT} или {@link #NONE}
+     */
+    public byte[] directions() {
+        return directions;
+    }
+
+    /**
+     * Возвращает расстояние от источника до точки.
+     *
+     * @param point точка
+     * @return стоимость кратчайшего пути или {@link #UNREACHED}
+     */
+    public int distance(Point point) {
+        return distances[point.y() * width + point.x()];
+    }
+
+    /**
+     * Восстанавливает кратчайший путь от источника до точки по направлениям к предкам.
+     *
+     * @param target конечная точка
+     * @return путь от источника до точки, пустой, если точка недостижима
+     * @throws IllegalArgumentException если точка вне сетки
+     */
+    public Path pathTo(Point target) {
+        if (target.x() < 0 || target.x() >= width || target.y() < 0 || target.y() >= height) {
+            throw new IllegalArgumentException("End point is out of bounds: " + target);
+        }
+        int end = target.y() * width + target.x();
+        if (distances[end] == UNREACHED) {
+            return new Path(new Point[0]);
+        }
+
+        int length = 1;
+        for (int cell = end; directions[cell] != NONE; cell = parentOf(cell)) {
+            length++;
+        }
+
+        Point[] points = new Point[length];
+        for (int cell = end; length > 0; cell = parentOf(cell)) {
+            points[--length] = new Point(cell % width, cell / width);
+        }
+        return new Path(points);
+    }
+
+    private int parentOf(int cell) {
+        return switch (directions[cell]) {
+            case UP -> cell - width;
+            case DOWN -> cell + width;
+            case LEFT -> cell - 1;
+            case RIGHT -> cell + 1;
+            default -> SolverUtils.NO_PARENT;
+        };
+    }
+
+    private static byte direction(int cell, int parent, int width) {
+        if (parent == cell - width) {
+            return UP;
+        }
+        if (parent == cell + width) {
+            return DOWN;
+        }
+        return parent == cell - 1 ? LEFT : RIGHT;
+    }
+}
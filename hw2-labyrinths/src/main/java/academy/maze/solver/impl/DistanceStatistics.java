@@ -0,0 +1,77 @@
+package academy.maze.solver.impl;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.solver.SolverUtils;
+import java.util.stream.IntStream;
+
+/**
+ * Сводная статистика расстояний от нескольких источников. Сначала считаются расстояния от первого источника; если
+ * стоимости ячеек одинаковы и все источники лежат от него не дальше {@link #CLUSTER_RADIUS} шагов, фронты источников
+ * почти совпадают и статистику считает бит-параллельный {@link MultiSourceBfs}. Иначе от каждого источника выполняется
+ * отдельный поиск {@link DialSolver}, а таблица первого источника переиспользуется.
+ *
+ * <p>На лабиринте DFS 501×501 проход от 64 источников в радиусе 64 шагов в 2,5 раза быстрее отдельных поисков, в
+ * радиусе 16 — в 5 раз, а для источников, разбросанных по всему лабиринту, медленнее.
+ */
+public final class DistanceStatistics {
+
+    /** Наибольшее расстояние в шагах от первого источника до остальных, при котором источники считаются скоплением. */
+    static final int CLUSTER_RADIUS = 64;
+
+    private DistanceStatistics() {}
+
+    /**
+     * Считает эксцентриситет, сумму расстояний и число достижимых ячеек для каждого источника.
+     *
+     * @param grid сетка ячеек лабиринта
+     * @param sources индексы ячеек-источников {@code y * width + x}
+     * @return статистика по источникам
+     * @throws IllegalArgumentException если источников нет или источник не является проходимой ячейкой
+     */
+    public static MultiSourceBfs.Statistics compute(CellGrid grid, int[] sources) {
+        if (sources.length == 0) {
+            throw new IllegalArgumentException("At least one source is required");
+        }
+        long cellCount = grid.cellCount();
+        for (int source : sources) {
+            if (source < 0
+                    || source >= cellCount
+                    || !grid.get(source % grid.width(), source / grid.width()).isPassable()) {
+                throw new IllegalArgumentException("Source is out of bounds or is a wall: " + source);
+            }
+        }
+
+        int[] first = DialSolver.distancesFrom(grid, sources[0]);
+        if (sources.length > 1 && isCluster(grid, sources, first)) {
+            return MultiSourceBfs.statistics(grid, sources);
+        }
+
+        int[] eccentricity = new int[sources.length];
+        long[] distanceSum = new long[sources.length];
+        int[] reachable = new int[sources.length];
+        IntStream.range(0, sources.length).parallel().forEach(i -> {
+            int[] distances = i == 0 ? first : DialSolver.distancesFrom(grid, sources[i]);
+            for (int distance : distances) {
+                if (distance != DistanceField.UNREACHED) {
+                    eccentricity[i] = Math.max(eccentricity[i], distance);
+                    distanceSum[i] += distance;
+                    reachable[i]++;
+                }
+            }
+        });
+        return new MultiSourceBfs.Statistics(eccentricity, distanceSum, reachable);
+    }
+
+    private static boolean isCluster(CellGrid grid, int[] sources, int[] first) {
+        int stepCost = SolverUtils.uniformCost(grid);
+        if (stepCost == SolverUtils.NOT_UNIFORM) {
+            return false;
+        }
+        for (int source : sources) {
+            if (first[source] == DistanceField.UNREACHED || first[source] > CLUSTER_RADIUS * stepCost) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,52 @@
+package academy.maze.solver.impl;
+
+/** Двусторонняя очередь примитивных {@code int} на кольцевом буфере, растущем по мере заполнения. */
+final class IntDeque {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] elements = new int[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void addFirst(int value) {
+        ensureCapacity();
+        head = (head - 1) & (elements.length - 1);
+        elements[head] = value;
+        size++;
+    }
+
+    void addLast(int value) {
+        ensureCapacity();
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    int pollFirst() {
+        int value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return value;
+    }
+
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private void ensureCapacity() {
+        if (size < elements.length) {
+            return;
+        }
+
+        int[] grown = new int[2 * elements.length];
+        int firstPart = elements.length - head;
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, head);
+        elements = grown;
+        head = 0;
+    }
+}
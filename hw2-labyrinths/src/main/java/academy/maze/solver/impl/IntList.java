@@ -0,0 +1,42 @@
+package academy.maze.solver.impl;
+
+import java.util.Arrays;
+
+/** Растущий список примитивных {@code int} без упаковки в объекты. */
+final class IntList {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] elements;
+    private int size;
+
+    IntList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    IntList(int capacity) {
+        this.elements = new int[Math.max(capacity, 1)];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(int index) {
+        return elements[index];
+    }
+
+    void add(int value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, 2 * elements.length);
+        }
+        elements[size++] = value;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+}
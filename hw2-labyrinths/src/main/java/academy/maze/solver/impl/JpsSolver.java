@@ -0,0 +1,197 @@
+package academy.maze.solver.impl;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.solver.Solver;
+import academy.maze.solver.SolverUtils;
+import java.util.Arrays;
+
+/**
+ * Решатель лабиринта поиском с прыжками (Jump Point Search) для сетки с четырьмя направлениями движения.
+ *
+ * <p>Из каждой точки поиск «прыгает» по прямой, не добавляя промежуточные ячейки в кучу, и останавливается только в
+ * точках, где можно повернуть (открыт хотя бы один перпендикулярный сосед), или в финише. В лабиринтах большинство
+ * ячеек лежит в прямых коридорах, поэтому в кучу попадают только развилки и повороты. Путь между соседними точками
+ * прыжка — прямой отрезок, он восстанавливается в конце.
+ *
+ * <p>Прыжки корректны только при одинаковой стоимости всех проходимых ячеек. Если в лабиринте есть поверхности с
+ * разной стоимостью, решение передаётся обычному {@link AstarSolver}. Проверка проходит по всей сетке, поэтому её
+ * результат запоминается для последней сетки и переиспользуется, пока запросы идут к тому же экземпляру сетки.
+ */
+public class JpsSolver implements Solver {
+
+    private static final int[] DX = {0, 0, -1, 1};
+    private static final int[] DY = {-1, 1, 0, 0};
+    private final Solver fallback = new AstarSolver();
+
+    private volatile Prepared prepared;
+
+    @Override
+    public Path solve(Maze maze, Point start, Point end) {
+        SolverUtils.validatePoints(maze, start, end);
+
+        CellGrid grid = maze.grid();
+        int stepCost = stepCost(grid);
+        if (stepCost == SolverUtils.NOT_UNIFORM) {
+            return fallback.solve(maze, start, end);
+        }
+
+        int width = grid.width();
+        int cellCount = SolverUtils.checkedCellCount(grid);
+        int endIndex = end.y() * width + end.x();
+
+        int[] gScore = new int[cellCount];
+        int[] parent = new int[cellCount];
+        Arrays.fill(gScore, Integer.MAX_VALUE);
+
+        LongMinHeap openSet = new LongMinHeap();
+        int startIndex = start.y() * width + start.x();
+        gScore[startIndex] = 0;
+        parent[startIndex] = SolverUtils.NO_PARENT;
+        openSet.push(LongMinHeap.pack(stepCost * heuristic(start.x(), start.y(), end), startIndex));
+
+        while (!openSet.isEmpty()) {
+            long entry = openSet.pop();
+            int current = LongMinHeap.index(entry);
+            int x = current % width;
+            int y = current / width;
+            int g = gScore[current];
+
+            if (LongMinHeap.priority(entry) != g + stepCost * heuristic(x, y, end)) {
+                continue;
+            }
+
+            if (current == endIndex) {
+                return expandPath(parent, endIndex, width);
+            }
+
+            int from = parent[current];
+            for (int d = 0; d < DX.length; d++) {
+                if (from != SolverUtils.NO_PARENT && isBackwards(from, x, y, width, DX[d], DY[d])) {
+                    continue;
+                }
+
+                int steps = jump(grid, x, y, DX[d], DY[d], end);
+                if (steps == 0) {
+                    continue;
+                }
+
+                int nx = x + DX[d] * steps;
+                int ny = y + DY[d] * steps;
+                int jumpPoint = ny * width + nx;
+                int tentativeGScore = g + steps * stepCost;
+                if (tentativeGScore < gScore[jumpPoint]) {
+                    gScore[jumpPoint] = tentativeGScore;
+                    parent[jumpPoint] = current;
+                    openSet.push(LongMinHeap.pack(tentativeGScore + stepCost * heuristic(nx, ny, end), jumpPoint));
+                }
+            }
+        }
+
+        return new Path(new Point[0]);
+    }
+
+    /**
+     * Идёт по прямой от ячейки, пока не встретит точку поворота, финиш или стену.
+     *
+     * @return число шагов до точки прыжка или 0, если направление упирается в стену без точек поворота
+     */
+    private int jump(CellGrid grid, int x, int y, int dx, int dy, Point end) {
+        int steps = 0;
+        while (true) {
+            x += dx;
+            y += dy;
+            if (!isPassable(grid, x, y)) {
+                return 0;
+            }
+            steps++;
+
+            if (x == end.x() && y == end.y()) {
+                return steps;
+            }
+            if (isPassable(grid, x + dy, y + dx) || isPassable(grid, x - dy, y - dx)) {
+                return steps;
+            }
+        }
+    }
+
+    private boolean isPassable(CellGrid grid, int x, int y) {
+        return grid.contains(x, y) && grid.get(x, y).isPassable();
+    }
+
+    /**
+     * Проверяет, ведёт ли направление обратно к предыдущей точке прыжка. Такой ход никогда не укорачивает путь.
+     */
+    private boolean isBackwards(int from, int x, int y, int width, int dx, int dy) {
+        int fromX = from % width;
+        int fromY = from / width;
+        return Integer.signum(fromX - x) == dx && Integer.signum(fromY - y) == dy;
+    }
+
+    /**
+     * Эвристическая функция - Manhattan distance
+     *
+     * @param x координата x текущей ячейки
+     * @param y координата y текущей ячейки
+     * @param end конечная точка
+     * @return эвристическое расстояние до конечной точки
+     */
+    private int heuristic(int x, int y, Point end) {
+        return Math.abs(x - end.x()) + Math.abs(y - end.y());
+    }
+
+    /**
+     * Восстанавливает путь по цепочке точек прыжка, достраивая прямые отрезки между ними.
+     *
+     * @param parent предыдущие точки прыжка
+     * @param end индекс конечной ячейки
+     * @param width ширина сетки
+     * @return путь от начала до конца
+     */
+    private Path expandPath(int[] parent, int end, int width) {
+        int length = 1;
+        for (int i = end; parent[i] != SolverUtils.NO_PARENT; i = parent[i]) {
+            int p = parent[i];
+            length += Math.abs(i % width - p % width) + Math.abs(i / width - p / width);
+        }
+
+        Point[] points = new Point[length];
+        int k = length;
+        int i = end;
+        while (parent[i] != SolverUtils.NO_PARENT) {
+            int x = i % width;
+            int y = i / width;
+            int p = parent[i];
+            int dx = Integer.signum(p % width - x);
+            int dy = Integer.signum(p / width - y);
+            while (x != p % width || y != p / width) {
+                points[--k] = new Point(x, y);
+                x += dx;
+                y += dy;
+            }
+            i = p;
+        }
+        points[0] = new Point(i % width, i / width);
+        return new Path(points);
+    }
+
+    /**
+     * Возвращает стоимость шага по сетке, проверяя однородность только при смене сетки.
+     *
+     * @param grid сетка ячеек лабиринта
+     * @return стоимость любой проходимой ячейки или {@link SolverUtils#NOT_UNIFORM}
+     */
+    private int stepCost(CellGrid grid) {
+        Prepared current = prepared;
+        if (current == null || current.grid() != grid) {
+            current = new Prepared(grid, SolverUtils.uniformCost(grid));
+            prepared = current;
+        }
+        return current.stepCost();
+    }
+
+    /** Сетка и стоимость шага по ней ({@link SolverUtils#NOT_UNIFORM} для сетки с разными стоимостями). */
+    private record Prepared(CellGrid grid, int stepCost) {}
+}
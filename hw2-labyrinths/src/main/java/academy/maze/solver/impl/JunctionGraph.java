@@ -0,0 +1,449 @@
+package academy.maze.solver.impl;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.solver.SolverUtils;
+import java.util.Arrays;
+
+/**
+ * Граф развилок лабиринта. Вершины — проходимые ячейки, у которых число проходимых соседей не равно двум (развилки и
+ * тупики), рёбра — коридоры между ними. Ячейки коридора хранятся в порядке от начала ребра к концу вместе с
+ * накопленной стоимостью, поэтому граф в несколько раз меньше сетки, а путь по нему разворачивается обратно в точки.
+ *
+ * <p>Стоимость платится за вход в ячейку, поэтому вес ребра зависит от направления: внутренняя стоимость коридора
+ * плюс стоимость ячейки, в которую ведёт ребро. Точки старта и финиша внутри коридора присоединяются к обоим его
+ * концам. Граф строится один раз и не меняется, запросы к нему можно выполнять из разных потоков.
+ */
+public final class JunctionGraph {
+    private static final int NONE = -1;
+    private static final int[] DX = {0, 0, -1, 1};
+    private static final int[] DY = {-1, 1, 0, 0};
+
+    private final CellGrid grid;
+    private final int width;
+
+    /** Номер вершины для ячейки или {@link #NONE}. */
+    private final int[] nodeOf;
+    /** Позиция ячейки коридора в общих массивах коридоров или {@link #NONE}. */
+    private final int[] slotOf;
+    private final int[] nodeCell;
+
+    private final int[] edgeFrom;
+    private final int[] edgeTo;
+    /** Первая позиция ребра в массивах коридоров, {@code edgeStart[e + 1]} — граница следующего ребра. */
+    private final int[] edgeStart;
+    private final int[] edgeInterior;
+
+    private final int[] slotCell;
+    private final int[] slotEdge;
+    /** Стоимость коридора от начала ребра до ячейки включительно. */
+    private final int[] slotPrefix;
+
+    private final int[] adjacencyStart;
+    private final int[] adjacencyEdge;
+
+    private JunctionGraph(Builder builder) {
+        this.grid = builder.grid;
+        this.width = builder.width;
+        this.nodeOf = builder.nodeOf;
+        this.slotOf = builder.slotOf;
+        this.nodeCell = builder.nodeCell.toArray();
+        this.edgeFrom = builder.edgeFrom.toArray();
+        this.edgeTo = builder.edgeTo.toArray();
+        builder.edgeStart.add(builder.slotCell.size());
+        this.edgeStart = builder.edgeStart.toArray();
+        this.edgeInterior = builder.edgeInterior.toArray();
+        this.slotCell = builder.slotCell.toArray();
+        this.slotEdge = builder.slotEdge.toArray();
+        this.slotPrefix = builder.slotPrefix.toArray();
+
+        this.adjacencyStart = new int[nodeCell.length + 1];
+        for (int e = 0; e < edgeFrom.length; e++) {
+            if (edgeFrom[e] != edgeTo[e]) {
+                adjacencyStart[edgeFrom[e] + 1]++;
+                adjacencyStart[edgeTo[e] + 1]++;
+            }
+        }
+        for (int n = 0; n < nodeCell.length; n++) {
+            adjacencyStart[n + 1] += adjacencyStart[n];
+        }
+        this.adjacencyEdge = new int[adjacencyStart[nodeCell.length]];
+        int[] fill = Arrays.copyOf(adjacencyStart, nodeCell.length);
+        for (int e = 0; e < edgeFrom.length; e++) {
+            if (edgeFrom[e] != edgeTo[e]) {
+                adjacencyEdge[fill[edgeFrom[e]]++] = e;
+                adjacencyEdge[fill[edgeTo[e]]++] = e;
+            }
+        }
+    }
+
+    /**
+     * Строит граф развилок по сетке лабиринта.
+     *
+     * @param grid сетка ячеек лабиринта
+     * @return граф развилок
+     * @throws IllegalArgumentException если сетка слишком велика
+     */
+    public static JunctionGraph build(CellGrid grid) {
+        return new Builder(grid).build();
+    }
+
+    /**
+     * Возвращает число вершин графа.
+     *
+     * @return число развилок и тупиков
+     */
+    public int nodeCount() {
+        return nodeCell.length;
+    }
+
+    /**
+     * Возвращает число рёбер графа.
+     *
+     * @return число коридоров
+     */
+    public int edgeCount() {
+        return edgeFrom.length;
+    }
+
+    /**
+     * Находит кратчайший путь между двумя проходимыми ячейками алгоритмом Дейкстры по графу развилок.
+     *
+     * @param start начальная точка
+     * @param end конечная точка
+     * @return путь от начала до конца или пустой путь, если он не существует
+     */
+    public Path shortestPath(Point start, Point end) {
+        int startCell = start.y() * width + start.x();
+        int endCell = end.y() * width + end.x();
+        if (startCell == endCell) {
+            return new Path(new Point[] {start});
+        }
+
+        Query query = new Query(startCell, endCell);
+        query.run();
+        return query.bestCost == Long.MAX_VALUE ? new Path(new Point[0]) : query.toPath();
+    }
+
+    private int cost(int cell) {
+        return grid.get(cell % width, cell / width).getCost();
+    }
+
+    private int edgeEnd(int edge) {
+        return edgeStart[edge + 1];
+    }
+
+    /** Стоимость ячеек коридора строго между началом ребра и позицией {@code slot}. */
+    private int costBefore(int slot) {
+        return slot == edgeStart[slotEdge[slot]] ? 0 : slotPrefix[slot - 1];
+    }
+
+    /** Стоимость ячеек коридора строго между позицией {@code slot} и концом ребра. */
+    private int costAfter(int slot) {
+        return edgeInterior[slotEdge[slot]] - slotPrefix[slot];
+    }
+
+    /** Состояние одного запроса: расстояния до вершин и лучший найденный вариант завершения. */
+    private final class Query {
+        private final int startCell;
+        private final int endCell;
+        private final int[] distance = new int[nodeCell.length];
+        private final int[] via = new int[nodeCell.length];
+        private final LongMinHeap heap = new LongMinHeap();
+
+        private long bestCost = Long.MAX_VALUE;
+        private int bestNode = NONE;
+        private boolean bestFromEdgeStart;
+
+        Query(int startCell, int endCell) {
+            this.startCell = startCell;
+            this.endCell = endCell;
+            Arrays.fill(distance, Integer.MAX_VALUE);
+        }
+
+        void run() {
+            int startSlot = slotOf[startCell];
+            if (startSlot == NONE) {
+                offerSource(nodeOf[startCell], 0);
+            } else {
+                int edge = slotEdge[startSlot];
+                offerSource(edgeFrom[edge], costBefore(startSlot) + cost(nodeCell[edgeFrom[edge]]));
+                offerSource(edgeTo[edge], costAfter(startSlot) + cost(nodeCell[edgeTo[edge]]));
+            }
+
+            int endSlot = slotOf[endCell];
+            if (startSlot != NONE && endSlot != NONE && slotEdge[startSlot] == slotEdge[endSlot]) {
+                bestCost = startSlot < endSlot
+                        ? slotPrefix[endSlot] - slotPrefix[startSlot]
+                        : costBefore(startSlot) - costBefore(endSlot);
+            }
+
+            while (!heap.isEmpty()) {
+                long entry = heap.pop();
+                int node = LongMinHeap.index(entry);
+                int d = LongMinHeap.priority(entry);
+                if (d != distance[node]) {
+                    continue;
+                }
+                if (d >= bestCost) {
+                    break;
+                }
+
+                if (endSlot == NONE) {
+                    if (nodeCell[node] == endCell) {
+                        accept(d, node, true);
+                    }
+                } else {
+                    int edge = slotEdge[endSlot];
+                    if (edgeFrom[edge] == node) {
+                        accept((long) d + slotPrefix[endSlot], node, true);
+                    }
+                    if (edgeTo[edge] == node) {
+                        accept((long) d + edgeInterior[edge] - costBefore(endSlot), node, false);
+                    }
+                }
+
+                relaxNeighbors(node, d);
+            }
+        }
+
+        private void offerSource(int node, int d) {
+            if (d < distance[node]) {
+                distance[node] = d;
+                via[node] = NONE;
+                heap.push(LongMinHeap.pack(d, node));
+            }
+        }
+
+        private void accept(long candidate, int node, boolean fromEdgeStart) {
+            if (candidate < bestCost) {
+                bestCost = candidate;
+                bestNode = node;
+                bestFromEdgeStart = fromEdgeStart;
+            }
+        }
+
+        private void relaxNeighbors(int node, int d) {
+            for (int i = adjacencyStart[node]; i < adjacencyStart[node + 1]; i++) {
+                int edge = adjacencyEdge[i];
+                int next = edgeFrom[edge] == node ? edgeTo[edge] : edgeFrom[edge];
+                int newDistance = d + edgeInterior[edge] + cost(nodeCell[next]);
+                if (newDistance < distance[next]) {
+                    distance[next] = newDistance;
+                    via[next] = edge;
+                    heap.push(LongMinHeap.pack(newDistance, next));
+                }
+            }
+        }
+
+        /** Разворачивает найденный маршрут по графу в последовательность ячеек сетки. */
+        Path toPath() {
+            IntList cells = new IntList();
+            int startSlot = slotOf[startCell];
+            int endSlot = slotOf[endCell];
+
+            if (bestNode == NONE) {
+                appendCorridor(cells, startSlot, endSlot);
+                return toPoints(cells);
+            }
+
+            IntList route = new IntList();
+            int source = bestNode;
+            while (via[source] != NONE) {
+                route.add(via[source]);
+                int edge = via[source];
+                source = edgeFrom[edge] == source ? edgeTo[edge] : edgeFrom[edge];
+            }
+
+            cells.add(startCell);
+            if (startSlot != NONE) {
+                int edge = slotEdge[startSlot];
+                boolean towardStart = edgeFrom[edge] == source
+                        && distance[source] == costBefore(startSlot) + cost(nodeCell[source]);
+                int boundary = towardStart ? edgeStart[edge] : edgeEnd(edge) - 1;
+                appendCorridor(cells, startSlot + (towardStart ? -1 : 1), boundary, towardStart);
+                cells.add(nodeCell[source]);
+            }
+
+            int node = source;
+            for (int i = route.size() - 1; i >= 0; i--) {
+                int edge = route.get(i);
+                boolean forward = edgeFrom[edge] == node;
+                appendCorridor(
+                        cells,
+                        forward ? edgeStart[edge] : edgeEnd(edge) - 1,
+                        forward ? edgeEnd(edge) - 1 : edgeStart[edge],
+                        !forward);
+                node = forward ? edgeTo[edge] : edgeFrom[edge];
+                cells.add(nodeCell[node]);
+            }
+
+            if (endSlot != NONE) {
+                int edge = slotEdge[endSlot];
+                appendCorridor(
+                        cells, bestFromEdgeStart ? edgeStart[edge] : edgeEnd(edge) - 1, endSlot, !bestFromEdgeStart);
+            }
+            return toPoints(cells);
+        }
+
+        private void appendCorridor(IntList cells, int fromSlot, int toSlot) {
+            appendCorridor(cells, fromSlot, toSlot, toSlot < fromSlot);
+        }
+
+        /** Добавляет ячейки коридора с позиции {@code fromSlot} по {@code toSlot} включительно. */
+        private void appendCorridor(IntList cells, int fromSlot, int toSlot, boolean descending) {
+            if (descending) {
+                for (int slot = fromSlot; slot >= toSlot; slot--) {
+                    cells.add(slotCell[slot]);
+                }
+            } else {
+                for (int slot = fromSlot; slot <= toSlot; slot++) {
+                    cells.add(slotCell[slot]);
+                }
+            }
+        }
+
+        private Path toPoints(IntList cells) {
+            Point[] points = new Point[cells.size()];
+            for (int i = 0; i < points.length; i++) {
+                int cell = cells.get(i);
+                points[i] = new Point(cell % width, cell / width);
+            }
+            return new Path(points);
+        }
+    }
+
+    /** Построитель графа: находит вершины и прослеживает коридоры между ними. */
+    private static final class Builder {
+        private final CellGrid grid;
+        private final int width;
+        private final int height;
+        private final int[] nodeOf;
+        private final int[] slotOf;
+
+        private final IntList nodeCell = new IntList();
+        private final IntList edgeFrom = new IntList();
+        private final IntList edgeTo = new IntList();
+        private final IntList edgeStart = new IntList();
+        private final IntList edgeInterior = new IntList();
+        private final IntList slotCell = new IntList();
+        private final IntList slotEdge = new IntList();
+        private final IntList slotPrefix = new IntList();
+
+        Builder(CellGrid grid) {
+            int cellCount = SolverUtils.checkedCellCount(grid);
+            this.grid = grid;
+            this.width = grid.width();
+            this.height = grid.height();
+            this.nodeOf = new int[cellCount];
+            this.slotOf = new int[cellCount];
+            Arrays.fill(nodeOf, NONE);
+            Arrays.fill(slotOf, NONE);
+        }
+
+        JunctionGraph build() {
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    if (isPassable(x, y) && degree(x, y) != 2) {
+                        addNode(y * width + x);
+                    }
+                }
+            }
+            for (int node = 0; node < nodeCell.size(); node++) {
+                traceCorridors(node);
+            }
+
+            // Кольца из ячеек с двумя соседями не содержат развилок: одна из ячеек кольца становится вершиной.
+            for (int cell = 0; cell < nodeOf.length; cell++) {
+                if (nodeOf[cell] == NONE && slotOf[cell] == NONE && isPassable(cell % width, cell / width)) {
+                    traceCorridors(addNode(cell));
+                }
+            }
+            return new JunctionGraph(this);
+        }
+
+        private int addNode(int cell) {
+            int node = nodeCell.size();
+            nodeOf[cell] = node;
+            nodeCell.add(cell);
+            return node;
+        }
+
+        private void traceCorridors(int node) {
+            int cell = nodeCell.get(node);
+            int x = cell % width;
+            int y = cell / width;
+
+            for (int d = 0; d < DX.length; d++) {
+                int nx = x + DX[d];
+                int ny = y + DY[d];
+                if (!isPassable(nx, ny)) {
+                    continue;
+                }
+
+                int next = ny * width + nx;
+                if (nodeOf[next] != NONE) {
+                    if (node < nodeOf[next]) {
+                        addEdge(node, nodeOf[next], 0);
+                    }
+                } else if (slotOf[next] == NONE) {
+                    traceCorridor(node, cell, next);
+                }
+            }
+        }
+
+        private void traceCorridor(int node, int previous, int current) {
+            int edge = edgeFrom.size();
+            edgeStart.add(slotCell.size());
+            int interior = 0;
+
+            while (nodeOf[current] == NONE) {
+                int x = current % width;
+                int y = current / width;
+                interior += grid.get(x, y).getCost();
+                slotOf[current] = slotCell.size();
+                slotCell.add(current);
+                slotEdge.add(edge);
+                slotPrefix.add(interior);
+
+                int following = NONE;
+                for (int d = 0; d < DX.length && following == NONE; d++) {
+                    int nx = x + DX[d];
+                    int ny = y + DY[d];
+                    int candidate = ny * width + nx;
+                    if (candidate != previous && isPassable(nx, ny)) {
+                        following = candidate;
+                    }
+                }
+                previous = current;
+                current = following;
+            }
+
+            edgeFrom.add(node);
+            edgeTo.add(nodeOf[current]);
+            edgeInterior.add(interior);
+        }
+
+        private void addEdge(int from, int to, int interior) {
+            edgeStart.add(slotCell.size());
+            edgeFrom.add(from);
+            edgeTo.add(to);
+            edgeInterior.add(interior);
+        }
+
+        private int degree(int x, int y) {
+            int degree = 0;
+            for (int d = 0; d < DX.length; d++) {
+                if (isPassable(x + DX[d], y + DY[d])) {
+                    degree++;
+                }
+            }
+            return degree;
+        }
+
+        private boolean isPassable(int x, int y) {
+            return grid.contains(x, y) && grid.get(x, y).isPassable();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package academy.maze.solver.impl;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.solver.Solver;
+import academy.maze.solver.SolverUtils;
+
+/**
+ * Решатель лабиринта поиском по графу развилок ({@link JunctionGraph}). Граф строится при первом запросе к лабиринту
+ * и переиспользуется, пока запросы идут к тому же экземпляру {@link Maze}, поэтому серия запросов к одному лабиринту
+ * платит за построение один раз.
+ */
+public class JunctionGraphSolver implements Solver {
+
+    private volatile Prepared prepared;
+
+    @Override
+    public Path solve(Maze maze, Point start, Point end) {
+        SolverUtils.validatePoints(maze, start, end);
+        return graph(maze).shortestPath(start, end);
+    }
+
+    /**
+     * Возвращает граф развилок лабиринта, строя его только при смене лабиринта.
+     *
+     * @param maze лабиринт
+     * @return граф развилок
+     */
+    public JunctionGraph graph(Maze maze) {
+        Prepared current = prepared;
+        if (current == null || current.maze() != maze) {
+            current = new Prepared(maze, JunctionGraph.build(maze.grid()));
+            prepared = current;
+        }
+        return current.graph();
+    }
+
+    /** Лабиринт и построенный для него граф. */
+    private record Prepared(Maze maze, JunctionGraph graph) {}
+}
@@ -0,0 +1,215 @@
+package academy.maze.solver.impl;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.solver.SolverUtils;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Таблицы расстояний от ориентиров (landmarks) для эвристики ALT. Для каждого ориентира {@code L} хранится массив
+ * {@code d(L, v)} по всем ячейкам, по неравенству треугольника из него получается нижняя оценка расстояния между любыми
+ * двумя ячейками.
+ *
+ * <p>Ориентиры равномерно расставляются по периметру лабиринта: на краях расстояния до большинства пар ячеек
+ * меняются сильнее всего, и оценка получается точнее. Поиски от ориентиров независимы и выполняются параллельно.
+ */
+public final class LandmarkIndex {
+
+    /** Расстояние до недостижимой ячейки. */
+    public static final int UNREACHED = Integer.MAX_VALUE;
+
+    private final int width;
+    private final int height;
+    private final long fingerprint;
+    private final int requestedCount;
+    private final int[] landmarks;
+    private final int[][] distances;
+
+    /**
+     * Создаёт индекс из готовых таблиц, например прочитанных из файла.
+     *
+     * @param width ширина сетки
+     * @param height высота сетки
+     * @param fingerprint отпечаток сетки, для которой посчитаны таблицы
+     * @param requestedCount число ориентиров, запрошенное при построении
+     * @param landmarks индексы ячеек-ориентиров
+     * @param distances расстояния от каждого ориентира до всех ячеек
+     * @throws IllegalArgumentException если размеры таблиц не совпадают с размерами сетки или ориентиров больше, чем
+     *     запрошено
+     */
+    public LandmarkIndex(
+            int width, int height, long fingerprint, int requestedCount, int[] landmarks, int[][] distances) {
+        if (requestedCount < landmarks.length) {
+            throw new IllegalArgumentException(
+                    "Requested landmark count " + requestedCount + " is less than " + landmarks.length);
+        }
+        if (landmarks.length != distances.length) {
+            throw new IllegalArgumentException("Expected " + landmarks.length + " distance tables, got "
+                    + distances.length);
+        }
+        for (int[] table : distances) {
+            if (table.length != (long) width * height) {
+                throw new IllegalArgumentException("Distance table size " + table.length + " does not match grid "
+                        + width + "x" + height);
+            }
+        }
+
+        this.width = width;
+        this.height = height;
+        this.fingerprint = fingerprint;
+        this.requestedCount = requestedCount;
+        this.landmarks = landmarks;
+        this.distances = distances;
+    }
+
+    /**
+     * Выбирает ориентиры и считает расстояния от них до всех ячеек.
+     *
+     * @param grid сетка ячеек лабиринта
+     * @param landmarkCount желаемое число ориентиров
+     * @return индекс ориентиров
+     * @throws IllegalArgumentException если число ориентиров не положительно или сетка слишком велика
+     */
+    public static LandmarkIndex build(CellGrid grid, int landmarkCount) {
+        if (landmarkCount <= 0) {
+            throw new IllegalArgumentException("Landmark count must be positive: " + landmarkCount);
+        }
+        SolverUtils.checkedCellCount(grid);
+
+        int[] landmarks = selectLandmarks(grid, landmarkCount);
+        int[][] distances = IntStream.range(0, landmarks.length)
+                .parallel()
+                .mapToObj(i -> DialSolver.distancesFrom(grid, landmarks[i]))
+                .toArray(int[][]::new);
+
+        return new LandmarkIndex(grid.width(), grid.height(), grid.fingerprint(), landmarkCount, landmarks, distances);
+    }
+
+    /**
+     * Проверяет, что индекс посчитан для этой сетки.
+     *
+     * @param grid сетка ячеек лабиринта
+     * @return true, если совпадают размеры и отпечаток
+     */
+    public boolean matches(CellGrid grid) {
+        return grid.width() == width && grid.height() == height && grid.fingerprint() == fingerprint;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Возвращает число ориентиров, запрошенное при построении. Оно больше {@link #landmarkCount()}, если несколько
+     * точек периметра привели к одной ячейке.
+     *
+     * @return запрошенное число ориентиров
+     */
+    public int requestedCount() {
+        return requestedCount;
+    }
+
+    /**
+     * Возвращает число ориентиров.
+     *
+     * @return число ориентиров
+     */
+    public int landmarkCount() {
+        return landmarks.length;
+    }
+
+    /**
+     * Возвращает индекс ячейки ориентира.
+     *
+     * @param landmark номер ориентира
+     * @return индекс ячейки {@code y * width + x}
+     */
+    public int landmark(int landmark) {
+        return landmarks[landmark];
+    }
+
+    /**
+     * Возвращает таблицу расстояний от ориентира. Массив не копируется и не должен изменяться.
+     *
+     * @param landmark номер ориентира
+     * @return расстояния по индексам ячеек, {@link #UNREACHED} для недостижимых
+     */
+    public int[] distances(int landmark) {
+        return distances[landmark];
+    }
+
+    /**
+     * Расставляет ориентиры по периметру: для равномерно распределённых точек границы берётся ближайшая проходимая
+     * ячейка. Совпавшие ориентиры отбрасываются.
+     */
+    private static int[] selectLandmarks(CellGrid grid, int landmarkCount) {
+        int width = grid.width();
+        int height = grid.height();
+        long perimeter = 2L * (width + height);
+        int[] landmarks = new int[landmarkCount];
+        int found = 0;
+
+        for (int i = 0; i < landmarkCount; i++) {
+            long position = perimeter * i / landmarkCount;
+            int x;
+            int y;
+            if (position < width) {
+                x = (int) position;
+                y = 0;
+            } else if (position < width + height) {
+                x = width - 1;
+                y = (int) (position - width);
+            } else if (position < 2L * width + height) {
+                x = (int) (2L * width + height - 1 - position);
+                y = height - 1;
+            } else {
+                x = 0;
+                y = (int) (perimeter - 1 - position);
+            }
+
+            int cell = nearestPassable(grid, x, y);
+            if (cell != SolverUtils.NO_PARENT && !contains(landmarks, found, cell)) {
+                landmarks[found++] = cell;
+            }
+        }
+
+        return Arrays.copyOf(landmarks, found);
+    }
+
+    private static int nearestPassable(CellGrid grid, int x, int y) {
+        int maxRadius = Math.max(grid.width(), grid.height());
+        for (int r = 0; r < maxRadius; r++) {
+            for (int dy = -r; dy <= r; dy++) {
+                int dx = r - Math.abs(dy);
+                if (isPassable(grid, x + dx, y + dy)) {
+                    return (y + dy) * grid.width() + x + dx;
+                }
+                if (dx != 0 && isPassable(grid, x - dx, y + dy)) {
+                    return (y + dy) * grid.width() + x - dx;
+                }
+            }
+        }
+        return SolverUtils.NO_PARENT;
+    }
+
+    private static boolean isPassable(CellGrid grid, int x, int y) {
+        return grid.contains(x, y) && grid.get(x, y).isPassable();
+    }
+
+    private static boolean contains(int[] values, int size, int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,89 @@
+package academy.maze.solver.impl;
+
+import java.util.Arrays;
+
+/**
+ * Двоичная куча примитивных {@code long} без упаковки в объекты. Решатели кладут в неё пары «приоритет, индекс ячейки»,
+ * упакованные в одно число как {@code priority << 32 | index}, поэтому порядок чисел совпадает с порядком приоритетов.
+ */
+final class LongMinHeap {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private long[] heap = new long[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Упаковывает неотрицательные приоритет и индекс в один элемент кучи.
+     *
+     * @param priority приоритет
+     * @param index индекс ячейки
+     * @return упакованный элемент
+     */
+    static long pack(int priority, int index) {
+        return (long) priority << 32 | index;
+    }
+
+    static int priority(long entry) {
+        return (int) (entry >>> 32);
+    }
+
+    static int index(long entry) {
+        return (int) entry;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    long peek() {
+        return heap[0];
+    }
+
+    void push(long value) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, 2 * heap.length);
+        }
+
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            long parentValue = heap[parent];
+            if (parentValue <= value) {
+                break;
+            }
+            heap[i] = parentValue;
+            i = parent;
+        }
+        heap[i] = value;
+    }
+
+    long pop() {
+        long top = heap[0];
+        long last = heap[--size];
+
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            long childValue = heap[child];
+            int right = child + 1;
+            if (right < size && heap[right] < childValue) {
+                child = right;
+                childValue = heap[right];
+            }
+            if (last <= childValue) {
+                break;
+            }
+            heap[i] = childValue;
+            i = child;
+        }
+        if (size > 0) {
+            heap[i] = last;
+        }
+        return top;
+    }
+}
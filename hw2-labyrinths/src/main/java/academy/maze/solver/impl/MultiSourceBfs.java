@@ -0,0 +1,226 @@
+package academy.maze.solver.impl;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.solver.SolverUtils;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Бит-параллельный поиск в ширину сразу от 64 источников для лабиринтов с одинаковой стоимостью ячеек. Каждой ячейке
+ * соответствуют два слова {@code long}: бит {@code i} в {@code visited} означает, что источник {@code i} уже дошёл до
+ * ячейки, а в {@code frontier} — что ячейка на текущем уровне входит во фронт источника {@code i}. Новый фронт
+ * соседа получается побитовым ИЛИ фронтов соседних ячеек с маской ещё не посещённых источников, поэтому один проход
+ * отвечает на 64 поиска. Обрабатываются только ячейки текущего фронта, стены помечены как посещённые всеми
+ * источниками.
+ *
+ * <p>Выигрыш зависит от того, как часто фронты разных источников совпадают. Для близко расположенных источников
+ * (окрестность точки, комната) проход быстрее 64 отдельных поисков; для источников, разбросанных по идеальному
+ * лабиринту, фронты почти не пересекаются, и отдельные поиски {@link DialSolver} выгоднее. Источников больше 64
+ * разбиваются на пачки, пачки обходятся параллельно.
+ */
+public final class MultiSourceBfs {
+
+    /** Число источников в одном проходе. */
+    public static final int BATCH_SIZE = Long.SIZE;
+
+    /** Расстояние до недостижимой ячейки. */
+    public static final int UNREACHED = Integer.MAX_VALUE;
+
+    private static final long ALL_SOURCES = -1L;
+
+    private MultiSourceBfs() {}
+
+    /**
+     * Считает расстояния от каждого источника до всех ячеек.
+     *
+     * @param grid сетка ячеек лабиринта
+     * @param sources индексы ячеек-источников {@code y * width + x}
+     * @return расстояния {@code [источник][ячейка]}, {@link #UNREACHED} для недостижимых
+     * @throws IllegalArgumentException если стоимости ячеек различаются или источник не является проходимой ячейкой
+     */
+    public static int[][] distances(CellGrid grid, int[] sources) {
+        int stepCost = checkedStepCost(grid, sources);
+        int cellCount = SolverUtils.checkedCellCount(grid);
+        int[][] distances = new int[sources.length][cellCount];
+        for (int[] table : distances) {
+            Arrays.fill(table, UNREACHED);
+        }
+
+        forEachBatch(sources, offset -> sweep(grid, sources, offset, (cell, reached, level) -> {
+            int distance = level * stepCost;
+            for (long bits = reached; bits != 0; bits &= bits - 1) {
+                distances[offset + Long.numberOfTrailingZeros(bits)][cell] = distance;
+            }
+        }));
+        return distances;
+    }
+
+    /**
+     * Считает сводную статистику расстояний от каждого источника, не сохраняя сами расстояния: эксцентриситет, сумму
+     * расстояний и число достижимых ячеек.
+     *
+     * @param grid сетка ячеек лабиринта
+     * @param sources индексы ячеек-источников {@code y * width + x}
+     * @return статистика по источникам
+     * @throws IllegalArgumentException если стоимости ячеек различаются или источник не является проходимой ячейкой
+     */
+    public static Statistics statistics(CellGrid grid, int[] sources) {
+        int stepCost = checkedStepCost(grid, sources);
+        int[] eccentricity = new int[sources.length];
+        long[] distanceSum = new long[sources.length];
+        int[] reachable = new int[sources.length];
+
+        forEachBatch(sources, offset -> sweep(grid, sources, offset, (cell, reached, level) -> {
+            int distance = level * stepCost;
+            for (long bits = reached; bits != 0; bits &= bits - 1) {
+                int source = offset + Long.numberOfTrailingZeros(bits);
+                eccentricity[source] = distance;
+                distanceSum[source] += distance;
+                reachable[source]++;
+            }
+        }));
+        return new Statistics(eccentricity, distanceSum, reachable);
+    }
+
+    private static void forEachBatch(int[] sources, IntConsumer batch) {
+        IntStream.iterate(0, offset -> offset < sources.length, offset -> offset + BATCH_SIZE)
+                .parallel()
+                .forEach(batch);
+    }
+
+    private static int checkedStepCost(CellGrid grid, int[] sources) {
+        long cellCount = grid.cellCount();
+        for (int source : sources) {
+            if (source < 0
+                    || source >= cellCount
+                    || !grid.get(source % grid.width(), source / grid.width()).isPassable()) {
+                throw new IllegalArgumentException("Source is out of bounds or is a wall: " + source);
+            }
+        }
+
+        int stepCost = SolverUtils.uniformCost(grid);
+        if (stepCost == SolverUtils.NOT_UNIFORM) {
+            throw new IllegalArgumentException("Bit-parallel BFS requires uniform cell costs");
+        }
+        return stepCost;
+    }
+
+    /**
+     * Один проход от пачки до 64 источников, начиная с {@code sources[offset]}. Для каждой ячейки и уровня, на котором
+     * до неё впервые дошли какие-то источники, вызывает посетителя с маской этих источников.
+     */
+    private static void sweep(CellGrid grid, int[] sources, int offset, LevelVisitor visitor) {
+        int width = grid.width();
+        int height = grid.height();
+        int cellCount = SolverUtils.checkedCellCount(grid);
+        long[] visited = new long[cellCount];
+        long[] frontier = new long[cellCount];
+        long[] next = new long[cellCount];
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (!grid.get(x, y).isPassable()) {
+                    visited[y * width + x] = ALL_SOURCES;
+                }
+            }
+        }
+
+        IntList active = new IntList();
+        IntList reached = new IntList();
+        int batchSize = Math.min(BATCH_SIZE, sources.length - offset);
+        for (int i = 0; i < batchSize; i++) {
+            int source = sources[offset + i];
+            if (frontier[source] == 0) {
+                active.add(source);
+            }
+            frontier[source] |= 1L << i;
+            visited[source] |= 1L << i;
+        }
+        for (int i = 0; i < active.size(); i++) {
+            visitor.visit(active.get(i), frontier[active.get(i)], 0);
+        }
+
+        for (int level = 1; active.size() > 0; level++) {
+            for (int i = 0; i < active.size(); i++) {
+                int cell = active.get(i);
+                long bits = frontier[cell];
+                frontier[cell] = 0;
+                int x = cell % width;
+                int y = cell / width;
+                if (y > 0) {
+                    spread(cell - width, bits, visited, next, reached);
+                }
+                if (y < height - 1) {
+                    spread(cell + width, bits, visited, next, reached);
+                }
+                if (x > 0) {
+                    spread(cell - 1, bits, visited, next, reached);
+                }
+                if (x < width - 1) {
+                    spread(cell + 1, bits, visited, next, reached);
+                }
+            }
+
+            for (int i = 0; i < reached.size(); i++) {
+                int cell = reached.get(i);
+                long bits = next[cell];
+                next[cell] = 0;
+                visited[cell] |= bits;
+                frontier[cell] = bits;
+                visitor.visit(cell, bits, level);
+            }
+
+            IntList swap = active;
+            active = reached;
+            reached = swap;
+            reached.clear();
+        }
+    }
+
+    private static void spread(int neighbor, long bits, long[] visited, long[] next, IntList reached) {
+        long fresh = bits & ~visited[neighbor];
+        if (fresh != 0) {
+            if (next[neighbor] == 0) {
+                reached.add(neighbor);
+            }
+            next[neighbor] |= fresh;
+        }
+    }
+
+    /** Получатель ячеек, до которых впервые дошли источники на очередном уровне. */
+    @FunctionalInterface
+    private interface LevelVisitor {
+        void visit(int cell, long sources, int level);
+    }
+
+    /**
+     * Сводная статистика расстояний по источникам.
+     *
+     * @param eccentricity наибольшее расстояние от источника до достижимой ячейки
+     * @param distanceSum сумма расстояний от источника до всех достижимых ячеек
+     * @param reachable число достижимых ячеек, включая сам источник
+     */
+    public record Statistics(int[] eccentricity, long[] distanceSum, int[] reachable) {
+
+        /**
+         * Возвращает наибольший эксцентриситет источников — нижнюю оценку диаметра лабиринта.
+         *
+         * @return наибольшее из найденных расстояний
+         */
+        public int maxEccentricity() {
+            return Arrays.stream(eccentricity).max().orElse(0);
+        }
+
+        /**
+         * Возвращает среднее расстояние от источников до достижимых ячеек.
+         *
+         * @return среднее расстояние или 0, если источников нет
+         */
+        public double meanDistance() {
+            long sum = Arrays.stream(distanceSum).sum();
+            long pairs = Arrays.stream(reachable).asLongStream().sum();
+            return pairs == 0 ? 0 : (double) sum / pairs;
+        }
+    }
+}
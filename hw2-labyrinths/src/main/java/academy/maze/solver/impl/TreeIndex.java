@@ -0,0 +1,134 @@
+package academy.maze.solver.impl;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.solver.SolverUtils;
+import java.util.Arrays;
+
+/**
+ * Индекс лабиринта без циклов. В идеальном лабиринте между любыми двумя ячейками ровно один простой путь, поэтому
+ * достаточно один раз подвесить каждую компоненту связности за корень и запомнить предка и глубину каждой ячейки.
+ * Путь между ячейками — подъём от обеих к их наименьшему общему предку, время ответа пропорционально длине пути.
+ */
+public final class TreeIndex {
+    private static final int NONE = -1;
+    private static final int[] DX = {0, 0, -1, 1};
+    private static final int[] DY = {-1, 1, 0, 0};
+
+    private final int width;
+    private final int[] parent;
+    private final int[] depth;
+
+    private TreeIndex(int width, int[] parent, int[] depth) {
+        this.width = width;
+        this.parent = parent;
+        this.depth = depth;
+    }
+
+    /**
+     * Строит индекс, если проходимые ячейки сетки образуют лес (число рёбер равно числу ячеек минус число компонент).
+     *
+     * @param grid сетка ячеек лабиринта
+     * @return индекс или null, если в лабиринте есть циклы
+     * @throws IllegalArgumentException если сетка слишком велика
+     */
+    public static TreeIndex build(CellGrid grid) {
+        int cellCount = SolverUtils.checkedCellCount(grid);
+        int width = grid.width();
+        int height = grid.height();
+        int[] parent = new int[cellCount];
+        int[] depth = new int[cellCount];
+        Arrays.fill(depth, NONE);
+
+        int[] queue = new int[cellCount];
+        long cells = 0;
+        long edges = 0;
+        long components = 0;
+
+        for (int root = 0; root < cellCount; root++) {
+            if (depth[root] != NONE || !grid.get(root % width, root / width).isPassable()) {
+                continue;
+            }
+
+            components++;
+            parent[root] = NONE;
+            depth[root] = 0;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = root;
+
+            while (head < tail) {
+                int current = queue[head++];
+                int x = current % width;
+                int y = current / width;
+                cells++;
+
+                for (int d = 0; d < DX.length; d++) {
+                    int nx = x + DX[d];
+                    int ny = y + DY[d];
+                    if (nx < 0 || ny < 0 || nx >= width || ny >= height || !grid.get(nx, ny).isPassable()) {
+                        continue;
+                    }
+
+                    edges++;
+                    int neighbor = ny * width + nx;
+                    if (depth[neighbor] == NONE) {
+                        parent[neighbor] = current;
+                        depth[neighbor] = depth[current] + 1;
+                        queue[tail++] = neighbor;
+                    }
+                }
+            }
+        }
+
+        // Каждое ребро просмотрено с обоих концов.
+        return edges / 2 == cells - components ? new TreeIndex(width, parent, depth) : null;
+    }
+
+    /**
+     * Находит единственный путь между двумя проходимыми ячейками.
+     *
+     * @param start начальная точка
+     * @param end конечная точка
+     * @return путь от начала до конца или пустой путь, если ячейки в разных компонентах
+     */
+    public Path path(Point start, Point end) {
+        int a = start.y() * width + start.x();
+        int b = end.y() * width + end.x();
+        IntList up = new IntList();
+        IntList down = new IntList();
+
+        while (depth[a] > depth[b]) {
+            up.add(a);
+            a = parent[a];
+        }
+        while (depth[b] > depth[a]) {
+            down.add(b);
+            b = parent[b];
+        }
+        while (a != b) {
+            if (parent[a] == NONE) {
+                return new Path(new Point[0]);
+            }
+            up.add(a);
+            down.add(b);
+            a = parent[a];
+            b = parent[b];
+        }
+        up.add(a);
+
+        Point[] points = new Point[up.size() + down.size()];
+        for (int i = 0; i < up.size(); i++) {
+            points[i] = toPoint(up.get(i));
+        }
+        for (int i = 0; i < down.size(); i++) {
+            points[points.length - 1 - i] = toPoint(down.get(i));
+        }
+        return new Path(points);
+    }
+
+    private Point toPoint(int cell) {
+        return new Point(cell % width, cell / width);
+    }
+}
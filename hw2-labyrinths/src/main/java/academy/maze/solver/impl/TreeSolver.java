@@ -0,0 +1,46 @@
+package academy.maze.solver.impl;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.solver.Solver;
+import academy.maze.solver.SolverUtils;
+
+/**
+ * Решатель для идеальных лабиринтов. При первом запросе к лабиринту проверяет, что в нём нет циклов, и строит
+ * {@link TreeIndex}; после этого каждый запрос отвечает за время, пропорциональное длине пути, без поиска. Лабиринты с
+ * циклами решаются через {@link DialSolver}. Индекс переиспользуется, пока запросы идут к тому же экземпляру
+ * {@link Maze}.
+ */
+public class TreeSolver implements Solver {
+
+    private final Solver fallback = new DialSolver();
+
+    private volatile Prepared prepared;
+
+    @Override
+    public Path solve(Maze maze, Point start, Point end) {
+        SolverUtils.validatePoints(maze, start, end);
+
+        TreeIndex index = index(maze);
+        return index != null ? index.path(start, end) : fallback.solve(maze, start, end);
+    }
+
+    /**
+     * Возвращает индекс дерева для лабиринта, строя его только при смене лабиринта.
+     *
+     * @param maze лабиринт
+     * @return индекс или null, если в лабиринте есть циклы
+     */
+    public TreeIndex index(Maze maze) {
+        Prepared current = prepared;
+        if (current == null || current.maze() != maze) {
+            current = new Prepared(maze, TreeIndex.build(maze.grid()));
+            prepared = current;
+        }
+        return current.index();
+    }
+
+    /** Лабиринт и построенный для него индекс (null для лабиринта с циклами). */
+    private record Prepared(Maze maze, TreeIndex index) {}
+}
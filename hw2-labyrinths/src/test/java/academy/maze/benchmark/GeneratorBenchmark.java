@@ -0,0 +1,55 @@
+package academy.maze.benchmark;
+
+import academy.maze.generator.Generator;
+import academy.maze.generator.GeneratorFactory;
+import academy.maze.generator.GeneratorFactory.GeneratorType;
+
+/**
+ * Ручной бенчмарк генераторов лабиринтов. Не запускается при сборке, запуск из IDE или через
+ * {@code java -cp target/classes:target/test-classes academy.maze.benchmark.GeneratorBenchmark [sides...]}.
+ *
+ * <p>Для каждого алгоритма и стороны лабиринта выполняет прогрев и несколько замеров, печатает лучшее время и скорость
+ * в миллионах ячеек в секунду. По умолчанию стороны 1000, 3162 и 10000 (1M, 10M и 100M ячеек).
+ */
+public final class GeneratorBenchmark {
+    private static final int[] DEFAULT_SIDES = {1000, 3162, 10000};
+    private static final int WARMUP_SIDE = 500;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 3;
+
+    private GeneratorBenchmark() {}
+
+    public static void main(String[] args) {
+        int[] sides = args.length == 0 ? DEFAULT_SIDES : parseSides(args);
+        GeneratorFactory factory = new GeneratorFactory();
+
+        System.out.printf("%-10s %10s %12s %12s%n", "algorithm", "cells", "best ms", "Mcells/s");
+        for (GeneratorType type : GeneratorType.values()) {
+            Generator generator = factory.createGenerator(type);
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                generator.generate(WARMUP_SIDE, WARMUP_SIDE);
+            }
+
+            for (int side : sides) {
+                long best = Long.MAX_VALUE;
+                for (int round = 0; round < ROUNDS; round++) {
+                    long start = System.nanoTime();
+                    generator.generate(side, side);
+                    best = Math.min(best, System.nanoTime() - start);
+                }
+
+                long cells = (long) (side + 2) * (side + 2);
+                System.out.printf(
+                        "%-10s %10d %12.1f %12.1f%n", type, cells, best / 1e6, cells / (best / 1e9) / 1e6);
+            }
+        }
+    }
+
+    private static int[] parseSides(String[] args) {
+        int[] sides = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sides[i] = Integer.parseInt(args[i]);
+        }
+        return sides;
+    }
+}
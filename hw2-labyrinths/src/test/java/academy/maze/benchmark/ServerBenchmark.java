@@ -0,0 +1,104 @@
+package academy.maze.benchmark;
+
+import academy.maze.server.MazeRegistry;
+import academy.maze.server.MazeServer;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Ручной бенчмарк пропускной способности HTTP-сервиса. Не запускается при сборке, запуск из IDE или через
+ * {@code java -cp target/classes:target/test-classes academy.maze.benchmark.ServerBenchmark [side] [clients]
+ * [seconds]}.
+ *
+ * <p>Поднимает {@link MazeServer} на свободном порту, генерирует через сервис лабиринт DFS с поверхностями и
+ * фиксированным зерном и для каждого алгоритма в течение заданного времени шлёт запросы {@code solve} со случайными
+ * точками из нескольких клиентских потоков. Перед замером каждый алгоритм прогревается тем же числом секунд. Печатает
+ * число решений в секунду и среднюю задержку запроса. По умолчанию сторона 201, 8 клиентов, 5 секунд; кеш путей
+ * отключён, чтобы измерялся поиск, а не попадания в кеш. Как и команда {@code serve}, включает TCP_NODELAY.
+ */
+public final class ServerBenchmark {
+    private static final String[] ALGORITHMS = {"dial", "astar", "junction", "tree", "alt"};
+    private static final long SEED = 42L;
+
+    private ServerBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        int side = args.length > 0 ? Integer.parseInt(args[0]) : 201;
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        long millis = (args.length > 2 ? Long.parseLong(args[2]) : 5) * 1000;
+
+        System.getProperties().putIfAbsent("sun.net.httpserver.nodelay", "true");
+        MazeServer server = new MazeServer(new InetSocketAddress("127.0.0.1", 0), new MazeRegistry());
+        server.start();
+        try (HttpClient client = HttpClient.newHttpClient();
+                ExecutorService executor = Executors.newFixedThreadPool(clients)) {
+            String base = "http://127.0.0.1:" + server.port() + "/mazes";
+            String generate =
+                    base + "/generate?algorithm=dfs&surfaces=true&width=" + side + "&height=" + side + "&seed=" + SEED;
+            HttpRequest request = HttpRequest.newBuilder(URI.create(generate))
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+            String generated = client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+            String id = generated.substring(generated.indexOf("\"id\":\"") + 6, generated.indexOf("\",\""));
+
+            System.out.printf("%-10s %8s %10s %12s %12s%n", "algorithm", "clients", "requests", "solves/s", "avg ms");
+            for (String algorithm : ALGORITHMS) {
+                String solve = base + "/" + id + "/solve?algorithm=" + algorithm;
+                run(client, executor, solve, side, clients, millis);
+                long requests = run(client, executor, solve, side, clients, millis);
+                System.out.printf(
+                        "%-10s %8d %10d %12.1f %12.2f%n",
+                        algorithm,
+                        clients,
+                        requests,
+                        requests * 1000.0 / millis,
+                        (double) clients * millis / requests);
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static long run(
+            HttpClient client, ExecutorService executor, String solve, int side, int clients, long millis)
+            throws Exception {
+        long deadline = System.currentTimeMillis() + millis;
+        List<Future<Long>> results = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            SplittableRandom random = new SplittableRandom(SEED + c);
+            results.add(executor.submit(() -> {
+                long requests = 0;
+                while (System.currentTimeMillis() < deadline) {
+                    String uri = solve + "&start=" + room(random, side) + "," + room(random, side) + "&end="
+                            + room(random, side) + "," + room(random, side);
+                    HttpResponse<Void> response = client.send(
+                            HttpRequest.newBuilder(URI.create(uri)).build(), HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() != 200) {
+                        throw new IllegalStateException("Unexpected status " + response.statusCode() + ": " + uri);
+                    }
+                    requests++;
+                }
+                return requests;
+            }));
+        }
+
+        long total = 0;
+        for (Future<Long> result : results) {
+            total += result.get();
+        }
+        return total;
+    }
+
+    private static int room(SplittableRandom random, int side) {
+        return 1 + 2 * random.nextInt((side + 1) / 2);
+    }
+}
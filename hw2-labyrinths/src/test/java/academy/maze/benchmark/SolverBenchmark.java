@@ -0,0 +1,86 @@
+package academy.maze.benchmark;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.generator.GeneratorFactory;
+import academy.maze.generator.GeneratorFactory.GeneratorType;
+import academy.maze.generator.SurfaceDecorator;
+import academy.maze.solver.Solver;
+import academy.maze.solver.SolverFactory;
+import academy.maze.solver.SolverFactory.SolverType;
+
+/**
+ * Ручной бенчмарк решателей лабиринтов. Не запускается при сборке, запуск из IDE или через
+ * {@code java -cp target/classes:target/test-classes academy.maze.benchmark.SolverBenchmark [sides...]}.
+ *
+ * <p>Для каждой стороны строит один лабиринт DFS с фиксированным зерном (без поверхностей и с ними) и решает его
+ * каждым алгоритмом из угла в угол. Печатает лучшее время и скорость в миллионах ячеек в секунду. По умолчанию сторона
+ * 2000 (4M ячеек).
+ */
+public final class SolverBenchmark {
+    private static final int[] DEFAULT_SIDES = {2000};
+    private static final int WARMUP_SIDE = 300;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int ROUNDS = 5;
+    private static final long SEED = 42L;
+
+    private SolverBenchmark() {}
+
+    public static void main(String[] args) {
+        int[] sides = args.length == 0 ? DEFAULT_SIDES : parseSides(args);
+        SolverFactory factory = new SolverFactory();
+
+        System.out.printf(
+                "%-22s %-9s %10s %8s %12s %12s%n", "algorithm", "surfaces", "cells", "length", "best ms", "Mcells/s");
+        for (int side : sides) {
+            Maze plain = generate(side, side);
+            Maze decorated = new SurfaceDecorator(SEED).addSurfaces(plain);
+            Maze warmup = generate(WARMUP_SIDE, WARMUP_SIDE);
+
+            for (SolverType type : SolverType.values()) {
+                Solver solver = factory.createSolver(type);
+                for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                    solver.solve(warmup, new Point(1, 1), new Point(WARMUP_SIDE - 1, WARMUP_SIDE - 1));
+                }
+
+                measure(type, "no", solver, plain, side);
+                measure(type, "yes", solver, decorated, side);
+            }
+        }
+    }
+
+    private static Maze generate(int width, int height) {
+        return new GeneratorFactory().createGenerator(GeneratorType.DFS, SEED).generate(width, height);
+    }
+
+    private static void measure(SolverType type, String surfaces, Solver solver, Maze maze, int side) {
+        Point start = new Point(1, 1);
+        Point end = new Point(side - 1, side - 1);
+        Path path = null;
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long begin = System.nanoTime();
+            path = solver.solve(maze, start, end);
+            best = Math.min(best, System.nanoTime() - begin);
+        }
+
+        long cells = (long) (side + 2) * (side + 2);
+        System.out.printf(
+                "%-22s %-9s %10d %8d %12.1f %12.1f%n",
+                type,
+                surfaces,
+                cells,
+                path.points().length,
+                best / 1e6,
+                cells / (best / 1e9) / 1e6);
+    }
+
+    private static int[] parseSides(String[] args) {
+        int[] sides = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sides[i] = Integer.parseInt(args[i]);
+        }
+        return sides;
+    }
+}
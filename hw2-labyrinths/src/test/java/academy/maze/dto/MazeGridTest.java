@@ -0,0 +1,80 @@
+package academy.maze.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class MazeGridTest {
+
+    @Test
+    void newGrid_shouldBeFilledWithWalls() {
+        MazeGrid grid = new MazeGrid(4, 3);
+
+        assertThat(grid.width()).isEqualTo(4);
+        assertThat(grid.height()).isEqualTo(3);
+        for (int i = 0; i < grid.size(); i++) {
+            assertThat(grid.get(i)).isEqualTo(CellType.WALL);
+        }
+    }
+
+    @Test
+    void set_shouldUseRowMajorIndex() {
+        MazeGrid grid = new MazeGrid(4, 3);
+
+        grid.set(2, 1, CellType.SAND);
+
+        assertThat(grid.get(grid.index(2, 1))).isEqualTo(CellType.SAND);
+        assertThat(grid.get(6)).isEqualTo(CellType.SAND);
+    }
+
+    @Test
+    void of_shouldRoundTripCellArray() {
+        CellType[][] cells = {
+            {CellType.WALL, CellType.PATH, CellType.COIN},
+            {CellType.SWAMP, CellType.SAND, CellType.WALL}
+        };
+
+        MazeGrid grid = MazeGrid.of(cells);
+
+        assertThat(grid.toArray()).isEqualTo(cells);
+        assertThat(new Maze(cells).cells()).isEqualTo(cells);
+    }
+
+    @Test
+    void of_shouldRejectJaggedArray() {
+        CellType[][] cells = {{CellType.WALL, CellType.PATH}, {CellType.WALL}};
+
+        assertThatThrownBy(() -> MazeGrid.of(cells)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void copy_shouldNotShareCells() {
+        MazeGrid grid = new MazeGrid(2, 2);
+
+        MazeGrid copy = grid.copy();
+        copy.set(0, 0, CellType.PATH);
+
+        assertThat(grid.get(0, 0)).isEqualTo(CellType.WALL);
+        assertThat(copy).isNotEqualTo(grid);
+    }
+
+    @Test
+    void fingerprint_shouldMatchOffHeapGridAndChangeWithContent() {
+        MazeGrid grid = new MazeGrid(5, 3);
+        grid.set(1, 1, CellType.PATH);
+        grid.set(2, 1, CellType.COIN);
+
+        try (OffHeapMazeGrid offHeap = OffHeapMazeGrid.allocate(5, 3, CellEncoding.BITS_4)) {
+            offHeap.set(1, 1, CellType.PATH);
+            offHeap.set(2, 1, CellType.COIN);
+
+            assertThat(offHeap.fingerprint()).isEqualTo(grid.fingerprint());
+        }
+
+        MazeGrid changed = grid.copy();
+        changed.set(3, 1, CellType.PATH);
+        assertThat(changed.fingerprint()).isNotEqualTo(grid.fingerprint());
+        assertThat(new MazeGrid(3, 5).fingerprint()).isNotEqualTo(new MazeGrid(5, 3).fingerprint());
+    }
+}
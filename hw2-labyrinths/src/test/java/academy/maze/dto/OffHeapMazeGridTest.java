@@ -0,0 +1,71 @@
+package academy.maze.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.generator.impl.DfsGenerator;
+import java.lang.foreign.Arena;
+import org.junit.jupiter.api.Test;
+
+class OffHeapMazeGridTest {
+
+    @Test
+    void allocate_shouldBeFilledWithWalls() {
+        try (OffHeapMazeGrid grid = OffHeapMazeGrid.allocate(5, 3, CellEncoding.BITS_2)) {
+            assertThat(grid.cellCount()).isEqualTo(15L);
+            for (long i = 0; i < grid.cellCount(); i++) {
+                assertThat(grid.get(i)).isEqualTo(CellType.WALL);
+            }
+        }
+    }
+
+    @Test
+    void set_shouldNotAffectNeighbourCellsInSameByte() {
+        try (OffHeapMazeGrid grid = OffHeapMazeGrid.allocate(4, 1, CellEncoding.BITS_2)) {
+            grid.set(0, 0, CellType.PATH);
+            grid.set(1, 0, CellType.SAND);
+            grid.set(2, 0, CellType.SWAMP);
+            grid.set(1, 0, CellType.PATH);
+
+            assertThat(grid.get(0, 0)).isEqualTo(CellType.PATH);
+            assertThat(grid.get(1, 0)).isEqualTo(CellType.PATH);
+            assertThat(grid.get(2, 0)).isEqualTo(CellType.SWAMP);
+            assertThat(grid.get(3, 0)).isEqualTo(CellType.WALL);
+        }
+    }
+
+    @Test
+    void set_shouldStoreAllTypesWithFourBits() {
+        try (OffHeapMazeGrid grid = OffHeapMazeGrid.allocate(5, 1, CellEncoding.BITS_4)) {
+            CellType[] types = CellType.values();
+            for (int x = 0; x < types.length; x++) {
+                grid.set(x, 0, types[x]);
+            }
+
+            for (int x = 0; x < types.length; x++) {
+                assertThat(grid.get(x, 0)).isEqualTo(types[x]);
+            }
+        }
+    }
+
+    @Test
+    void set_shouldRejectCoinWithTwoBits() {
+        try (OffHeapMazeGrid grid = OffHeapMazeGrid.allocate(2, 2, CellEncoding.BITS_2)) {
+            assertThatThrownBy(() -> grid.set(0, 0, CellType.COIN))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("COIN");
+        }
+    }
+
+    @Test
+    void generate_shouldTargetOffHeapGrid() {
+        try (Arena arena = Arena.ofConfined()) {
+            Maze maze = new DfsGenerator().generate(7, 5, CellGridFactory.offHeap(arena, CellEncoding.BITS_2));
+
+            assertThat(maze.grid()).isInstanceOf(OffHeapMazeGrid.class);
+            assertThat(maze.grid().width()).isEqualTo(9);
+            assertThat(maze.grid().height()).isEqualTo(7);
+            assertThat(maze.grid().get(1, 1)).isEqualTo(CellType.PATH);
+        }
+    }
+}
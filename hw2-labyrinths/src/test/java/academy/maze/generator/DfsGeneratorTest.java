@@ -3,6 +3,7 @@ package academy.maze.generator;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import academy.maze.dto.CellGrid;
 import academy.maze.dto.CellType;
 import academy.maze.dto.Maze;
 import academy.maze.generator.impl.DfsGenerator;
@@ -80,4 +81,18 @@ class DfsGeneratorTest {
         assertThat(maze.cells().length).isEqualTo(3);
         assertThat(maze.cells()[0].length).isEqualTo(3);
     }
+
+    @Test
+    void generate_shouldCarveAllRoomsOfLargeMazeWithoutRecursion() {
+        Generator generator = new DfsGenerator();
+
+        Maze maze = generator.generate(2001, 2001);
+        CellGrid grid = maze.grid();
+
+        for (int y = 1; y < grid.height() - 1; y += 2) {
+            for (int x = 1; x < grid.width() - 1; x += 2) {
+                assertThat(grid.get(x, y)).isEqualTo(CellType.PATH);
+            }
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package academy.maze.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.dto.CellEncoding;
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.CellGridFactory;
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.generator.impl.DivisionGenerator;
+import java.lang.foreign.Arena;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class DivisionGeneratorTest {
+
+    @Test
+    void generate_shouldCreateMazeWithCorrectDimensions() {
+        Generator generator = new DivisionGenerator();
+
+        Maze maze = generator.generate(5, 5);
+
+        assertThat(maze.grid().height()).isEqualTo(7);
+        assertThat(maze.grid().width()).isEqualTo(7);
+    }
+
+    @Test
+    void generate_shouldCreatePerfectMaze() {
+        Generator generator = new DivisionGenerator();
+
+        Maze maze = generator.generate(31, 21);
+
+        assertPerfect(maze.grid(), 16, 11);
+    }
+
+    @Test
+    void generate_shouldCreatePerfectMazeInParallel() {
+        Generator generator = new DivisionGenerator(new ForkJoinPool(4));
+
+        Maze maze = generator.generate(601, 401);
+
+        assertPerfect(maze.grid(), 301, 201);
+    }
+
+    @Test
+    void generate_withSeed_shouldNotDependOnPoolSize() {
+        Maze single = new DivisionGenerator(new ForkJoinPool(1), 7L).generate(801, 601);
+        Maze parallel = new DivisionGenerator(new ForkJoinPool(8), 7L).generate(801, 601);
+
+        assertThat(parallel).isEqualTo(single);
+    }
+
+    @Test
+    void generate_withSeed_shouldNotDependOnGridStorage() {
+        Maze heap = new DivisionGenerator(7L).generate(801, 601, CellGridFactory.heap());
+
+        try (Arena arena = Arena.ofConfined()) {
+            Maze packed =
+                    new DivisionGenerator(7L).generate(801, 601, CellGridFactory.offHeap(arena, CellEncoding.BITS_2));
+
+            assertThat(packed.grid().fingerprint()).isEqualTo(heap.grid().fingerprint());
+        }
+    }
+
+    @Test
+    void generate_shouldCreatePerfectMazeOnPackedGrid() {
+        Generator generator = new DivisionGenerator();
+
+        try (Arena arena = Arena.ofConfined()) {
+            Maze maze = generator.generate(301, 201, CellGridFactory.offHeap(arena, CellEncoding.BITS_2));
+
+            assertPerfect(maze.grid(), 151, 101);
+        }
+    }
+
+    @Test
+    void generate_shouldHaveWallsOnBorders() {
+        Generator generator = new DivisionGenerator();
+
+        Maze maze = generator.generate(4, 6);
+        CellGrid grid = maze.grid();
+
+        for (int x = 0; x < grid.width(); x++) {
+            assertThat(grid.get(x, 0)).isEqualTo(CellType.WALL);
+            assertThat(grid.get(x, grid.height() - 1)).isEqualTo(CellType.WALL);
+        }
+        for (int y = 0; y < grid.height(); y++) {
+            assertThat(grid.get(0, y)).isEqualTo(CellType.WALL);
+            assertThat(grid.get(grid.width() - 1, y)).isEqualTo(CellType.WALL);
+        }
+    }
+
+    @Test
+    void generate_shouldWorkForSmallestMaze() {
+        Generator generator = new DivisionGenerator();
+
+        Maze maze = generator.generate(1, 1);
+
+        assertThat(maze.grid().get(1, 1)).isEqualTo(CellType.PATH);
+    }
+
+    @Test
+    void generate_shouldThrowExceptionForInvalidDimensions() {
+        Generator generator = new DivisionGenerator();
+
+        assertThatThrownBy(() -> generator.generate(0, 5)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertPerfect(CellGrid grid, int roomsX, int roomsY) {
+        int passable = 0;
+        int edges = 0;
+        for (int y = 0; y < grid.height(); y++) {
+            for (int x = 0; x < grid.width(); x++) {
+                if (grid.get(x, y).isPassable()) {
+                    passable++;
+                    if (grid.get(x + 1, y).isPassable()) {
+                        edges++;
+                    }
+                    if (grid.get(x, y + 1).isPassable()) {
+                        edges++;
+                    }
+                }
+            }
+        }
+
+        assertThat(passable).isEqualTo(2 * roomsX * roomsY - 1);
+        assertThat(edges).isEqualTo(passable - 1);
+    }
+}
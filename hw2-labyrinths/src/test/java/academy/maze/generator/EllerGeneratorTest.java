@@ -0,0 +1,91 @@
+package academy.maze.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.generator.impl.EllerGenerator;
+import academy.maze.renderer.impl.AsciiRenderer;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+class EllerGeneratorTest {
+
+    @Test
+    void generate_shouldCreatePerfectMaze() {
+        Generator generator = new EllerGenerator();
+
+        Maze maze = generator.generate(31, 20);
+
+        assertThat(maze.grid().width()).isEqualTo(33);
+        assertThat(maze.grid().height()).isEqualTo(22);
+        assertThat(countEdges(maze.grid())).isEqualTo(countPassable(maze.grid()) - 1);
+    }
+
+    @Test
+    void generate_shouldStreamRowsOfPerfectMaze() throws Exception {
+        EllerGenerator generator = new EllerGenerator();
+        StringWriter writer = new StringWriter();
+
+        generator.generate(25, 14, new AsciiRenderer(), null, writer);
+
+        String[] lines = writer.toString().split("\n");
+        assertThat(lines.length).isEqualTo(16);
+        CellType[][] cells = new CellType[lines.length][];
+        for (int y = 0; y < lines.length; y++) {
+            assertThat(lines[y].length()).isEqualTo(27);
+            cells[y] = new CellType[lines[y].length()];
+            for (int x = 0; x < lines[y].length(); x++) {
+                cells[y][x] = lines[y].charAt(x) == '#' ? CellType.WALL : CellType.PATH;
+            }
+        }
+        CellGrid grid = new Maze(cells).grid();
+        assertThat(countEdges(grid)).isEqualTo(countPassable(grid) - 1);
+    }
+
+    @Test
+    void generate_shouldWorkForSmallestMaze() {
+        Generator generator = new EllerGenerator();
+
+        Maze maze = generator.generate(1, 1);
+
+        assertThat(maze.grid().get(1, 1)).isEqualTo(CellType.PATH);
+    }
+
+    @Test
+    void generate_shouldThrowExceptionForInvalidDimensions() {
+        EllerGenerator generator = new EllerGenerator();
+
+        assertThatThrownBy(() -> generator.generate(5, 0, new AsciiRenderer(), null, new StringWriter()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private int countPassable(CellGrid grid) {
+        int count = 0;
+        for (int y = 0; y < grid.height(); y++) {
+            for (int x = 0; x < grid.width(); x++) {
+                if (grid.get(x, y).isPassable()) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private int countEdges(CellGrid grid) {
+        int count = 0;
+        for (int y = 0; y < grid.height() - 1; y++) {
+            for (int x = 0; x < grid.width() - 1; x++) {
+                if (grid.get(x, y).isPassable() && grid.get(x + 1, y).isPassable()) {
+                    count++;
+                }
+                if (grid.get(x, y).isPassable() && grid.get(x, y + 1).isPassable()) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -3,6 +3,7 @@ package academy.maze.generator;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import academy.maze.dto.Maze;
 import org.junit.jupiter.api.Test;
 
 class GeneratorFactoryTest {
@@ -27,6 +28,36 @@ class GeneratorFactoryTest {
         assertThat(generator.getClass().getSimpleName()).isEqualTo("PrimGenerator");
     }
 
+    @Test
+    void createGenerator_shouldReturnKruskalGeneratorForKruskal() {
+        GeneratorFactory factory = new GeneratorFactory();
+
+        Generator generator = factory.createGenerator("kruskal");
+
+        assertThat(generator).isNotNull();
+        assertThat(generator.getClass().getSimpleName()).isEqualTo("KruskalGenerator");
+    }
+
+    @Test
+    void createGenerator_shouldReturnEllerGeneratorForEller() {
+        GeneratorFactory factory = new GeneratorFactory();
+
+        Generator generator = factory.createGenerator("eller");
+
+        assertThat(generator).isNotNull();
+        assertThat(generator.getClass().getSimpleName()).isEqualTo("EllerGenerator");
+    }
+
+    @Test
+    void createGenerator_shouldReturnDivisionGeneratorForDivision() {
+        GeneratorFactory factory = new GeneratorFactory();
+
+        Generator generator = factory.createGenerator("division");
+
+        assertThat(generator).isNotNull();
+        assertThat(generator.getClass().getSimpleName()).isEqualTo("DivisionGenerator");
+    }
+
     @Test
     void createGenerator_shouldBeCaseInsensitive() {
         GeneratorFactory factory = new GeneratorFactory();
@@ -42,6 +73,18 @@ class GeneratorFactoryTest {
         assertThat(prim2).isNotNull();
     }
 
+    @Test
+    void createGenerator_withSeed_shouldBeReproducibleForEveryAlgorithm() {
+        GeneratorFactory factory = new GeneratorFactory();
+
+        for (GeneratorFactory.GeneratorType type : GeneratorFactory.GeneratorType.values()) {
+            Maze first = factory.createGenerator(type, 42L).generate(41, 31);
+            Maze second = factory.createGenerator(type, 42L).generate(41, 31);
+
+            assertThat(second).isEqualTo(first);
+        }
+    }
+
     @Test
     void createGenerator_shouldThrowExceptionForUnknownType() {
         GeneratorFactory factory = new GeneratorFactory();
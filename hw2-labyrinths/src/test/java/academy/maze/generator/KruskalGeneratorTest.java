@@ -0,0 +1,83 @@
+package academy.maze.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.generator.impl.KruskalGenerator;
+import org.junit.jupiter.api.Test;
+
+class KruskalGeneratorTest {
+
+    @Test
+    void generate_shouldCreateMazeWithCorrectDimensions() {
+        Generator generator = new KruskalGenerator();
+
+        Maze maze = generator.generate(5, 5);
+
+        assertThat(maze.grid().height()).isEqualTo(7);
+        assertThat(maze.grid().width()).isEqualTo(7);
+    }
+
+    @Test
+    void generate_shouldCreatePerfectMaze() {
+        Generator generator = new KruskalGenerator();
+
+        Maze maze = generator.generate(31, 21);
+        CellGrid grid = maze.grid();
+
+        int passable = 0;
+        int edges = 0;
+        for (int y = 0; y < grid.height(); y++) {
+            for (int x = 0; x < grid.width(); x++) {
+                if (grid.get(x, y).isPassable()) {
+                    passable++;
+                    if (grid.get(x + 1, y).isPassable()) {
+                        edges++;
+                    }
+                    if (grid.get(x, y + 1).isPassable()) {
+                        edges++;
+                    }
+                }
+            }
+        }
+
+        assertThat(passable).isEqualTo(16 * 11 + 16 * 11 - 1);
+        assertThat(edges).isEqualTo(passable - 1);
+    }
+
+    @Test
+    void generate_shouldHaveWallsOnBorders() {
+        Generator generator = new KruskalGenerator();
+
+        Maze maze = generator.generate(4, 6);
+        CellGrid grid = maze.grid();
+
+        for (int x = 0; x < grid.width(); x++) {
+            assertThat(grid.get(x, 0)).isEqualTo(CellType.WALL);
+            assertThat(grid.get(x, grid.height() - 1)).isEqualTo(CellType.WALL);
+        }
+        for (int y = 0; y < grid.height(); y++) {
+            assertThat(grid.get(0, y)).isEqualTo(CellType.WALL);
+            assertThat(grid.get(grid.width() - 1, y)).isEqualTo(CellType.WALL);
+        }
+    }
+
+    @Test
+    void generate_shouldWorkForSmallestMaze() {
+        Generator generator = new KruskalGenerator();
+
+        Maze maze = generator.generate(1, 1);
+
+        assertThat(maze.grid().get(1, 1)).isEqualTo(CellType.PATH);
+    }
+
+    @Test
+    void generate_shouldThrowExceptionForInvalidDimensions() {
+        Generator generator = new KruskalGenerator();
+
+        assertThatThrownBy(() -> generator.generate(0, 5)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
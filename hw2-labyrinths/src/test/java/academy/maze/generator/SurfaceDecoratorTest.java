@@ -2,9 +2,14 @@ package academy.maze.generator;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import academy.maze.dto.CellEncoding;
+import academy.maze.dto.CellGridFactory;
 import academy.maze.dto.CellType;
 import academy.maze.dto.Maze;
+import java.lang.foreign.Arena;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 class SurfaceDecoratorTest {
 
@@ -71,4 +76,35 @@ class SurfaceDecoratorTest {
         assertThat(originalMaze.cells()[0][0]).isEqualTo(CellType.WALL);
         assertThat(originalMaze.cells()[0][1]).isEqualTo(CellType.PATH);
     }
+
+    @Test
+    void addSurfaces_withSeed_shouldBeReproducible() {
+        CellType[][] cells = new CellType[20][20];
+        for (int i = 0; i < 20; i++) {
+            for (int j = 0; j < 20; j++) {
+                cells[i][j] = CellType.PATH;
+            }
+        }
+        Maze originalMaze = new Maze(cells);
+
+        Maze first = new SurfaceDecorator(42L).addSurfaces(originalMaze);
+        Maze second = new SurfaceDecorator(42L).addSurfaces(originalMaze);
+
+        assertThat(second).isEqualTo(first);
+    }
+
+    @ParameterizedTest
+    @EnumSource(GeneratorFactory.GeneratorType.class)
+    void addSurfacesInPlace_withSeed_shouldMatchHeapMazeOnOffHeapGrid(GeneratorFactory.GeneratorType type) {
+        GeneratorFactory factory = new GeneratorFactory();
+        Maze heap = new SurfaceDecorator(7L).addSurfaces(factory.createGenerator(type, 3L).generate(161, 161));
+
+        try (Arena arena = Arena.ofConfined()) {
+            Maze offHeap = factory.createGenerator(type, 3L)
+                    .generate(161, 161, CellGridFactory.offHeap(arena, CellEncoding.BITS_4));
+            new SurfaceDecorator(7L).addSurfacesInPlace(offHeap.grid());
+
+            assertThat(offHeap.grid().fingerprint()).isEqualTo(heap.grid().fingerprint());
+        }
+    }
 }
@@ -0,0 +1,86 @@
+package academy.maze.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.dto.CellEncoding;
+import academy.maze.dto.Maze;
+import academy.maze.dto.OffHeapMazeGrid;
+import academy.maze.generator.GeneratorFactory;
+import academy.maze.generator.SurfaceDecorator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.junit.jupiter.api.Test;
+
+class BinaryMazeFileHandlerTest {
+
+    private final BinaryMazeFileHandler fileHandler = new BinaryMazeFileHandler();
+
+    @Test
+    void write_shouldRoundTripMazeWithSurfacesAndHeader() throws IOException {
+        Maze maze = new SurfaceDecorator(5L).addSurfaces(generate(5L));
+        Path file = tempFile();
+
+        fileHandler.write(file, maze.grid(), 42L);
+        BinaryMazeFileHandler.Header header = fileHandler.readHeader(file);
+
+        assertThat(header.width()).isEqualTo(maze.grid().width());
+        assertThat(header.height()).isEqualTo(maze.grid().height());
+        assertThat(header.encoding()).isEqualTo(CellEncoding.BITS_4);
+        assertThat(header.seed()).isEqualTo(42L);
+        try (OffHeapMazeGrid grid = (OffHeapMazeGrid) fileHandler.read(file).grid()) {
+            assertThat(grid.toArray()).isEqualTo(maze.grid().toArray());
+        }
+    }
+
+    @Test
+    void write_shouldPackMazeWithoutCoinsInTwoBitsPageAligned() throws IOException {
+        Maze maze = generate(7L);
+        Path file = tempFile();
+
+        fileHandler.write(file, maze.grid(), BinaryMazeFileHandler.UNKNOWN_SEED);
+
+        assertThat(fileHandler.readHeader(file).encoding()).isEqualTo(CellEncoding.BITS_2);
+        assertThat(Files.size(file)).isEqualTo(4096L + CellEncoding.BITS_2.byteSize(maze.grid().cellCount()));
+    }
+
+    @Test
+    void read_shouldBeSelectedBySignatureInMazeFileHandler() throws IOException {
+        Maze maze = generate(9L);
+        Path file = tempFile();
+        fileHandler.write(file, maze.grid(), 9L);
+
+        Maze read = new MazeFileHandler().read(file);
+
+        assertThat(read.grid()).isInstanceOf(OffHeapMazeGrid.class);
+        assertThat(read.grid().fingerprint()).isEqualTo(maze.grid().fingerprint());
+        ((OffHeapMazeGrid) read.grid()).close();
+    }
+
+    @Test
+    void read_shouldRejectCorruptedCells() throws IOException {
+        Path file = tempFile();
+        fileHandler.write(file, generate(11L).grid(), 11L);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x55}), 4096 + 10);
+        }
+
+        assertThatThrownBy(() -> fileHandler.read(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Checksum mismatch");
+    }
+
+    private static Maze generate(long seed) {
+        return new GeneratorFactory()
+                .createGenerator(GeneratorFactory.GeneratorType.KRUSKAL, seed)
+                .generate(31, 21);
+    }
+
+    private static Path tempFile() throws IOException {
+        return Files.createTempDirectory("binary").resolve("maze" + BinaryMazeFileHandler.EXTENSION);
+    }
+}
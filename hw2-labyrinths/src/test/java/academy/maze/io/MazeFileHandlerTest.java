@@ -0,0 +1,102 @@
+package academy.maze.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+
+class MazeFileHandlerTest {
+
+    @Test
+    void read_shouldDecodeAsciiMazeWithSurfaces() throws IOException {
+        MazeFileHandler fileHandler = new MazeFileHandler();
+        fileHandler.setEnableSurfaces(true);
+
+        Maze maze = fileHandler.read(write("#####\n#$*~#\n# # #\n#####\n"));
+
+        assertThat(maze.grid().width()).isEqualTo(5);
+        assertThat(maze.grid().height()).isEqualTo(4);
+        assertThat(maze.grid().get(1, 1)).isEqualTo(CellType.COIN);
+        assertThat(maze.grid().get(2, 1)).isEqualTo(CellType.SAND);
+        assertThat(maze.grid().get(3, 1)).isEqualTo(CellType.SWAMP);
+        assertThat(maze.grid().get(2, 2)).isEqualTo(CellType.WALL);
+        assertThat(maze.grid().get(3, 2)).isEqualTo(CellType.PATH);
+    }
+
+    @Test
+    void read_shouldDecodeUnicodeWallsAsSingleCells() throws IOException {
+        Maze maze = new MazeFileHandler().read(write("╔═══╗\n║ ~ ║\n╚═══╝"));
+
+        assertThat(maze.grid().width()).isEqualTo(5);
+        assertThat(maze.grid().height()).isEqualTo(3);
+        assertThat(maze.grid().get(0, 0)).isEqualTo(CellType.WALL);
+        assertThat(maze.grid().get(4, 1)).isEqualTo(CellType.WALL);
+        assertThat(maze.grid().get(2, 1)).isEqualTo(CellType.PATH);
+        assertThat(maze.grid().get(4, 2)).isEqualTo(CellType.WALL);
+    }
+
+    @Test
+    void read_shouldMatchLineBasedParsingForMixedLineEndings() throws IOException {
+        String text = "#####\r\n# ~ #\r#\n#═ *$ 😀\n\n##";
+        MazeFileHandler fileHandler = new MazeFileHandler();
+        fileHandler.setEnableSurfaces(true);
+
+        Maze mapped = fileHandler.read(write(text));
+        Maze parsed = fileHandler.read(new StringReader(text));
+
+        assertThat(mapped.grid().width()).isEqualTo(parsed.grid().width());
+        assertThat(mapped.grid().height()).isEqualTo(parsed.grid().height());
+        assertThat(mapped.grid().toArray()).isEqualTo(parsed.grid().toArray());
+    }
+
+    @Test
+    void write_shouldCompressGzFilesAndReadThemBack() throws IOException {
+        String text = "#####\n# ~ #\n#═$*#\n#####\n".repeat(50);
+        MazeFileHandler fileHandler = new MazeFileHandler();
+        fileHandler.setEnableSurfaces(true);
+        Path file = Files.createTempDirectory("maze").resolve("maze.txt.gz");
+
+        fileHandler.write(file, text);
+        Maze maze = fileHandler.read(file);
+
+        assertThat(Files.size(file)).isLessThan((long) text.length());
+        assertThat(maze.grid().toArray())
+                .isEqualTo(fileHandler.read(new StringReader(text)).grid().toArray());
+    }
+
+    @Test
+    void write_shouldCompressWhenEnabledRegardlessOfExtension() throws IOException {
+        String text = "#####\n#   #\n#####";
+        MazeFileHandler fileHandler = new MazeFileHandler();
+        fileHandler.setCompress(true);
+        Path file = Files.createTempDirectory("maze").resolve("maze.txt");
+
+        fileHandler.write(file, text);
+
+        assertThat(Files.readAllBytes(file)[0]).isEqualTo((byte) 0x1f);
+        assertThat(new MazeFileHandler().read(file).grid().toArray())
+                .isEqualTo(new MazeFileHandler().read(new StringReader(text)).grid().toArray());
+    }
+
+    @Test
+    void read_shouldRejectEmptyFile() throws IOException {
+        Path file = write("");
+
+        assertThatThrownBy(() -> new MazeFileHandler().read(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("File is empty");
+    }
+
+    private static Path write(String text) throws IOException {
+        Path file = Files.createTempDirectory("maze").resolve("maze.txt");
+        Files.writeString(file, text, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,90 @@
+package academy.maze.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.generator.GeneratorFactory;
+import academy.maze.generator.SurfaceDecorator;
+import academy.maze.solver.impl.DialSolver;
+import java.io.IOException;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+class MazeRendererTest {
+
+    private final RendererFactory rendererFactory = new RendererFactory();
+
+    @Test
+    void render_shouldStreamSameTextAsStringRendering() throws IOException {
+        Maze maze = new SurfaceDecorator(3L)
+                .addSurfaces(new GeneratorFactory()
+                        .createGenerator(GeneratorFactory.GeneratorType.PRIM, 3L)
+                        .generate(41, 21));
+
+        for (String type : new String[] {"ascii", "unicode"}) {
+            MazeRenderer renderer = rendererFactory.createRenderer(type);
+            StringWriter writer = new StringWriter();
+            StringBuffer buffer = new StringBuffer();
+
+            renderer.render(maze, writer);
+            renderer.render(maze, buffer);
+
+            assertThat(writer.toString()).isEqualTo(renderer.render(maze));
+            assertThat(buffer.toString()).isEqualTo(renderer.render(maze));
+        }
+    }
+
+    @Test
+    void render_shouldStreamSolvedMazeSameAsStringRendering() throws IOException {
+        Maze maze = new GeneratorFactory()
+                .createGenerator(GeneratorFactory.GeneratorType.DFS, 5L)
+                .generate(41, 21);
+        Point start = new Point(1, 1);
+        Point end = new Point(39, 19);
+        Path path = new DialSolver().solve(maze, start, end);
+        MazeRenderer renderer = rendererFactory.createRenderer("ascii");
+        StringWriter writer = new StringWriter();
+
+        renderer.render(maze, path, start, end, writer);
+
+        assertThat(writer.toString()).isEqualTo(renderer.render(maze, path, start, end));
+    }
+
+    @Test
+    void render_shouldMarkStartEndAndRoute() {
+        CellType[][] cells = {
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL},
+            {CellType.WALL, CellType.PATH, CellType.PATH, CellType.PATH, CellType.WALL},
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.SAND, CellType.WALL},
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL}
+        };
+        Maze maze = new Maze(cells);
+        Path path = new Path(new Point[] {new Point(1, 1), new Point(2, 1), new Point(3, 1), new Point(3, 2)});
+
+        String rendered = rendererFactory.createRenderer("ascii").render(maze, path, new Point(1, 1), new Point(3, 2));
+
+        assertThat(rendered).isEqualTo("#####\n#O..#\n###X#\n#####\n");
+    }
+
+    @Test
+    void render_shouldOverlayUnorderedRouteAndIgnorePointsOutsideGrid() {
+        CellType[][] cells = {
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL},
+            {CellType.WALL, CellType.PATH, CellType.PATH, CellType.PATH, CellType.WALL},
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.PATH, CellType.WALL},
+            {CellType.WALL, CellType.PATH, CellType.PATH, CellType.PATH, CellType.WALL},
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL}
+        };
+        Maze maze = new Maze(cells);
+        Path path = new Path(new Point[] {
+            new Point(1, 3), new Point(2, 3), new Point(3, 3), new Point(3, 2), new Point(3, 1), new Point(9, 9)
+        });
+
+        String rendered = rendererFactory.createRenderer("ascii").render(maze, path, new Point(1, 3), new Point(1, 3));
+
+        assertThat(rendered).isEqualTo("#####\n#  .#\n###.#\n#O..#\n#####\n");
+    }
+}
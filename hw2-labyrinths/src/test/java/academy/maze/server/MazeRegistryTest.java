@@ -0,0 +1,51 @@
+package academy.maze.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.dto.Maze;
+import academy.maze.generator.GeneratorFactory;
+import org.junit.jupiter.api.Test;
+
+class MazeRegistryTest {
+
+    @Test
+    void register_shouldEvictLeastRecentlyUsedMazeOverCellLimit() {
+        GeneratorFactory factory = new GeneratorFactory();
+        Maze first = factory.createGenerator(GeneratorFactory.GeneratorType.DFS, 1L).generate(21, 21);
+        Maze second = factory.createGenerator(GeneratorFactory.GeneratorType.DFS, 2L).generate(21, 21);
+        Maze third = factory.createGenerator(GeneratorFactory.GeneratorType.DFS, 3L).generate(21, 21);
+        long cells = first.grid().cellCount();
+        MazeRegistry registry = new MazeRegistry(0, 2 * cells);
+
+        String firstId = registry.register(first).id();
+        String secondId = registry.register(second).id();
+        registry.find(firstId);
+        String thirdId = registry.register(third).id();
+
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.find(firstId)).isPresent();
+        assertThat(registry.find(secondId)).isEmpty();
+        assertThat(registry.find(thirdId)).isPresent();
+    }
+
+    @Test
+    void remove_shouldReportWhetherMazeWasRegistered() {
+        Maze maze = new GeneratorFactory()
+                .createGenerator(GeneratorFactory.GeneratorType.PRIM, 1L)
+                .generate(11, 11);
+        MazeRegistry registry = new MazeRegistry();
+        String id = registry.register(maze).id();
+
+        assertThat(registry.remove(id)).isTrue();
+        assertThat(registry.remove(id)).isFalse();
+        assertThat(registry.find(id)).isEmpty();
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveCellLimit() {
+        assertThatThrownBy(() -> new MazeRegistry(0, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Maximum registry cells");
+    }
+}
@@ -0,0 +1,162 @@
+package academy.maze.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MazeServerTest {
+
+    private static final String MAZE = """
+            #####
+            #   #
+            # # #
+            #~  #
+            #####
+            """;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final MazeRegistry registry = new MazeRegistry();
+    private MazeServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new MazeServer(new InetSocketAddress("127.0.0.1", 0), registry);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    void upload_shouldRegisterMazeOnceByContent() throws Exception {
+        HttpResponse<String> first = send("POST", "/mazes", MAZE);
+        HttpResponse<String> second = send("POST", "/mazes", MAZE);
+
+        assertThat(first.statusCode()).isEqualTo(201);
+        assertThat(first.body()).contains("\"width\":5");
+        assertThat(second.body()).isEqualTo(first.body());
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    void solve_shouldReturnCostAndPath() throws Exception {
+        String id = upload();
+
+        HttpResponse<String> response =
+                send("GET", "/mazes/" + id + "/solve?algorithm=dial&start=1,1&end=1,3", null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("\"cost\":4");
+        assertThat(response.body()).contains("\"length\":3,\"path\":[[1,1],[1,2],[1,3]]");
+    }
+
+    @Test
+    void solve_shouldRenderSolutionWhenRendererIsGiven() throws Exception {
+        String id = upload();
+
+        HttpResponse<String> response =
+                send("GET", "/mazes/" + id + "/solve?algorithm=astar&start=1,1&end=3,1&renderer=ascii", null);
+
+        assertThat(response.body()).startsWith("#####\n#O.X#\n");
+    }
+
+    @Test
+    void solve_shouldReuseSolverBetweenRequests() throws Exception {
+        String id = upload();
+
+        send("GET", "/mazes/" + id + "/solve?algorithm=tree&start=1,1&end=3,3", null);
+        send("GET", "/mazes/" + id + "/solve?algorithm=TREE&start=3,3&end=1,1", null);
+
+        MazeRegistry.Entry entry = registry.find(id).orElseThrow();
+        assertThat(entry.solver("tree")).isSameAs(entry.solver("Tree"));
+    }
+
+    @Test
+    void generate_shouldBeReproducibleWithSeed() throws Exception {
+        String path = "/mazes/generate?algorithm=prim&width=21&height=15&surfaces=true&seed=5";
+
+        HttpResponse<String> first = send("POST", path, "");
+        HttpResponse<String> second = send("POST", path, "");
+
+        assertThat(first.statusCode()).isEqualTo(201);
+        assertThat(second.body()).isEqualTo(first.body());
+    }
+
+    @Test
+    void errors_shouldMapToStatusCodes() throws Exception {
+        String id = upload();
+
+        assertThat(send("GET", "/mazes/unknown", null).statusCode()).isEqualTo(404);
+        assertThat(send("GET", "/mazes/" + id + "/solve?algorithm=dial&start=0,0&end=1,1", null).statusCode())
+                .isEqualTo(400);
+        assertThat(send("GET", "/mazes/" + id + "/solve?algorithm=magic&start=1,1&end=3,1", null).body())
+                .contains("Unknown solver algorithm");
+        assertThat(send("DELETE", "/mazes/" + id, null).statusCode()).isEqualTo(204);
+        assertThat(send("GET", "/mazes/" + id, null).statusCode()).isEqualTo(404);
+    }
+
+    private String upload() throws Exception {
+        String body = send("POST", "/mazes", MAZE).body();
+        int start = body.indexOf("\"id\":\"") + 6;
+        return body.substring(start, body.indexOf('"', start));
+    }
+
+    @Test
+    void limits_shouldRejectOversizedMazesAndBodies() throws Exception {
+        MazeServer limited =
+                new MazeServer(new InetSocketAddress("127.0.0.1", 0), registry, new MazeServer.Limits(11, 11, 64));
+        limited.start();
+        try {
+            HttpResponse<String> wide = send(limited, "POST", "/mazes/generate?algorithm=dfs&width=13&height=5", "");
+            HttpResponse<String> wideUpload = send(limited, "POST", "/mazes", "#############\n#\n");
+            HttpResponse<String> largeBody = send(limited, "POST", "/mazes", MAZE.repeat(3));
+            HttpResponse<String> largeStream = send(
+                    limited,
+                    "POST",
+                    "/mazes",
+                    HttpRequest.BodyPublishers.ofInputStream(
+                            () -> new ByteArrayInputStream(MAZE.repeat(3).getBytes(StandardCharsets.UTF_8))));
+
+            assertThat(wide.statusCode()).isEqualTo(400);
+            assertThat(wide.body()).contains("exceeds the limit of 11x11");
+            assertThat(wideUpload.statusCode()).isEqualTo(400);
+            assertThat(largeBody.statusCode()).isEqualTo(413);
+            assertThat(largeStream.statusCode()).isEqualTo(413);
+            assertThat(send(limited, "POST", "/mazes", MAZE).statusCode()).isEqualTo(201);
+        } finally {
+            limited.stop();
+        }
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        return send(server, method, path, body);
+    }
+
+    private HttpResponse<String> send(MazeServer target, String method, String path, String body) throws Exception {
+        return send(
+                target,
+                method,
+                path,
+                body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private HttpResponse<String> send(
+            MazeServer target, String method, String path, HttpRequest.BodyPublisher publisher) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + target.port() + path))
+                .method(method, publisher)
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
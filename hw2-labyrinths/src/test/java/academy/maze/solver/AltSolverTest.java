@@ -0,0 +1,131 @@
+package academy.maze.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.generator.GeneratorFactory;
+import academy.maze.generator.SurfaceDecorator;
+import academy.maze.io.LandmarkFileHandler;
+import academy.maze.solver.impl.AltSolver;
+import academy.maze.solver.impl.DijkstraSolver;
+import academy.maze.solver.impl.LandmarkIndex;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.Test;
+
+class AltSolverTest {
+
+    @Test
+    void solve_shouldFindSameCostAsDijkstraOnMazeWithCycles() {
+        Maze maze = TestMazes.latticeWithCycles(41, 9L);
+        AltSolver solver = new AltSolver(4);
+        Point[][] queries = {
+            {new Point(1, 1), new Point(39, 39)},
+            {new Point(3, 1), new Point(3, 39)},
+            {new Point(39, 20), new Point(1, 21)},
+            {new Point(5, 1), new Point(4, 1)}
+        };
+
+        for (Point[] query : queries) {
+            Path expected = new DijkstraSolver().solve(maze, query[0], query[1]);
+
+            Path path = solver.solve(maze, query[0], query[1]);
+
+            assertThat(path.points()[0]).isEqualTo(query[0]);
+            assertThat(path.points()[path.points().length - 1]).isEqualTo(query[1]);
+            assertThat(SolverUtils.pathCost(maze.grid(), path)).isEqualTo(SolverUtils.pathCost(maze.grid(), expected));
+        }
+    }
+
+    @Test
+    void solve_shouldFindSameCostAsDijkstraOnDecoratedPerfectMaze() {
+        Maze maze = new SurfaceDecorator(3L)
+                .addSurfaces(new GeneratorFactory()
+                        .createGenerator(GeneratorFactory.GeneratorType.KRUSKAL, 3L)
+                        .generate(101, 101));
+        AltSolver solver = new AltSolver();
+        Point start = new Point(1, 1);
+        Point end = new Point(101, 101);
+
+        Path path = solver.solve(maze, start, end);
+        Path expected = new DijkstraSolver().solve(maze, start, end);
+
+        assertThat(SolverUtils.pathCost(maze.grid(), path)).isEqualTo(SolverUtils.pathCost(maze.grid(), expected));
+        assertThat(solver.index(maze)).isSameAs(solver.index(maze));
+        assertThat(solver.index(maze).landmarkCount()).isEqualTo(AltSolver.DEFAULT_LANDMARK_COUNT);
+    }
+
+    @Test
+    void landmarks_shouldSurviveSaveAndLoad() throws IOException {
+        Maze maze = new GeneratorFactory().createGenerator(GeneratorFactory.GeneratorType.DFS, 5L).generate(61, 41);
+        java.nio.file.Path mazePath = Files.createTempDirectory("landmarks").resolve("maze.txt");
+        LandmarkFileHandler handler = new LandmarkFileHandler();
+
+        LandmarkIndex built = handler.loadOrBuild(mazePath, maze.grid(), 6);
+        LandmarkIndex loaded = handler.read(handler.sidecarPath(mazePath));
+
+        assertThat(loaded.matches(maze.grid())).isTrue();
+        assertThat(loaded.landmarkCount()).isEqualTo(built.landmarkCount());
+        for (int i = 0; i < built.landmarkCount(); i++) {
+            assertThat(loaded.landmark(i)).isEqualTo(built.landmark(i));
+            assertThat(loaded.distances(i)).isEqualTo(built.distances(i));
+        }
+
+        AltSolver solver = new AltSolver();
+        solver.prepare(maze, loaded);
+        Point start = new Point(1, 1);
+        Point end = new Point(61, 41);
+        Path path = solver.solve(maze, start, end);
+        Path expected = new DijkstraSolver().solve(maze, start, end);
+
+        assertThat(solver.index(maze)).isSameAs(loaded);
+        assertThat(SolverUtils.pathCost(maze.grid(), path)).isEqualTo(SolverUtils.pathCost(maze.grid(), expected));
+    }
+
+    @Test
+    void landmarks_shouldBeRebuiltWhenLandmarkCountChanges() throws IOException {
+        Maze maze = new GeneratorFactory().createGenerator(GeneratorFactory.GeneratorType.DFS, 5L).generate(41, 41);
+        java.nio.file.Path mazePath = Files.createTempDirectory("landmarks").resolve("maze.txt");
+        LandmarkFileHandler handler = new LandmarkFileHandler();
+
+        handler.loadOrBuild(mazePath, maze.grid(), 2);
+        LandmarkIndex rebuilt = handler.loadOrBuild(mazePath, maze.grid(), 6);
+
+        assertThat(rebuilt.landmarkCount()).isEqualTo(6);
+        assertThat(handler.read(handler.sidecarPath(mazePath)).landmarkCount()).isEqualTo(6);
+    }
+
+    @Test
+    void landmarks_shouldBeReusedWhenDuplicateLandmarksWereDropped() throws IOException {
+        Maze maze = new GeneratorFactory().createGenerator(GeneratorFactory.GeneratorType.DFS, 5L).generate(5, 5);
+        java.nio.file.Path mazePath = Files.createTempDirectory("landmarks").resolve("maze.txt");
+        LandmarkFileHandler handler = new LandmarkFileHandler();
+        java.nio.file.Path sidecar = handler.sidecarPath(mazePath);
+
+        LandmarkIndex built = handler.loadOrBuild(mazePath, maze.grid(), 64);
+        FileTime saved = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(sidecar, saved);
+        LandmarkIndex loaded = handler.loadOrBuild(mazePath, maze.grid(), 64);
+
+        assertThat(built.landmarkCount()).isLessThan(64);
+        assertThat(loaded.requestedCount()).isEqualTo(64);
+        assertThat(loaded.landmarkCount()).isEqualTo(built.landmarkCount());
+        assertThat(Files.getLastModifiedTime(sidecar)).isEqualTo(saved);
+    }
+
+    @Test
+    void prepare_shouldRejectIndexOfAnotherMaze() {
+        GeneratorFactory factory = new GeneratorFactory();
+        Maze maze = factory.createGenerator(GeneratorFactory.GeneratorType.DFS, 1L).generate(21, 21);
+        Maze other = factory.createGenerator(GeneratorFactory.GeneratorType.DFS, 2L).generate(21, 21);
+        LandmarkIndex index = LandmarkIndex.build(other.grid(), 2);
+
+        assertThatThrownBy(() -> new AltSolver().prepare(maze, index))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("does not match");
+    }
+}
@@ -7,6 +7,8 @@ import academy.maze.dto.CellType;
 import academy.maze.dto.Maze;
 import academy.maze.dto.Path;
 import academy.maze.dto.Point;
+import academy.maze.generator.GeneratorFactory;
+import academy.maze.generator.SurfaceDecorator;
 import academy.maze.solver.impl.AstarSolver;
 import org.junit.jupiter.api.Test;
 
@@ -98,4 +100,41 @@ class AstarSolverTest {
 
         assertThat(path.points()).isNotEmpty();
     }
+
+    @Test
+    void solve_shouldFindConnectedPathInLargeMaze() {
+        Maze maze = new GeneratorFactory().createGenerator(GeneratorFactory.GeneratorType.DFS, 1L).generate(301, 301);
+        Solver solver = new AstarSolver();
+        Point start = new Point(1, 1);
+        Point end = new Point(301, 301);
+
+        Path path = solver.solve(maze, start, end);
+
+        Point[] points = path.points();
+        assertThat(points[0]).isEqualTo(start);
+        assertThat(points[points.length - 1]).isEqualTo(end);
+        for (int i = 1; i < points.length; i++) {
+            int step = Math.abs(points[i].x() - points[i - 1].x()) + Math.abs(points[i].y() - points[i - 1].y());
+            assertThat(step).isEqualTo(1);
+            assertThat(maze.grid().get(points[i].x(), points[i].y()).isPassable()).isTrue();
+        }
+    }
+
+    @Test
+    void newSession_shouldMatchFreshSolverAcrossQueries() {
+        Maze maze = new SurfaceDecorator(4L)
+                .addSurfaces(new GeneratorFactory()
+                        .createGenerator(GeneratorFactory.GeneratorType.PRIM, 4L)
+                        .generate(61, 41));
+        ReusableSolver solver = new AstarSolver();
+        Solver session = solver.newSession();
+
+        for (int i = 0; i < 30; i++) {
+            Point start = new Point(1 + 2 * (i % 31), 1 + 2 * (i % 21));
+            Point end = new Point(61 - 2 * (i % 17), 41 - 2 * (i % 13));
+
+            assertThat(session.solve(maze, start, end).points())
+                    .isEqualTo(solver.solve(maze, start, end).points());
+        }
+    }
 }
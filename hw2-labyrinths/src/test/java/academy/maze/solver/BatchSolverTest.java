@@ -0,0 +1,78 @@
+package academy.maze.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.generator.GeneratorFactory;
+import academy.maze.generator.SurfaceDecorator;
+import academy.maze.solver.impl.DialSolver;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BatchSolverTest {
+
+    @Test
+    void solve_shouldMatchSequentialSolvingInQueryOrder() {
+        Maze maze = new SurfaceDecorator(8L)
+                .addSurfaces(new GeneratorFactory()
+                        .createGenerator(GeneratorFactory.GeneratorType.PRIM, 8L)
+                        .generate(81, 61));
+        List<BatchSolver.Query> queries = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            queries.add(new BatchSolver.Query(new Point(1 + 2 * (i % 41), 1), new Point(81, 1 + 2 * (i % 31))));
+        }
+
+        BatchSolver.Result[] results = new BatchSolver(new DialSolver(), 4, true).solve(maze, queries);
+
+        assertThat(results.length).isEqualTo(queries.size());
+        for (int i = 0; i < results.length; i++) {
+            BatchSolver.Query query = queries.get(i);
+            Path expected = new DialSolver().solve(maze, query.start(), query.end());
+
+            assertThat(results[i].path().points()).isEqualTo(expected.points());
+            assertThat(results[i].length()).isEqualTo(expected.points().length);
+            assertThat(results[i].cost()).isEqualTo(SolverUtils.pathCost(maze.grid(), expected));
+        }
+    }
+
+    @Test
+    void solve_shouldReportMissingPath() {
+        CellType[][] cells = {
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL},
+            {CellType.WALL, CellType.PATH, CellType.WALL, CellType.SAND, CellType.WALL},
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL}
+        };
+        Maze maze = new Maze(cells);
+        List<BatchSolver.Query> queries = List.of(
+                new BatchSolver.Query(new Point(1, 1), new Point(3, 1)),
+                new BatchSolver.Query(new Point(3, 1), new Point(3, 1)));
+
+        BatchSolver.Result[] results = new BatchSolver(new DialSolver(), 2, false).solve(maze, queries);
+
+        assertThat(results[0].cost()).isEqualTo(BatchSolver.Result.NO_PATH);
+        assertThat(results[0].length()).isEqualTo(0);
+        assertThat(results[1].cost()).isEqualTo(0);
+        assertThat(results[1].length()).isEqualTo(1);
+        assertThat(results[1].path()).isNull();
+    }
+
+    @Test
+    void solve_shouldRejectInvalidQueryBeforeSolving() {
+        CellType[][] cells = {
+            {CellType.WALL, CellType.WALL, CellType.WALL},
+            {CellType.WALL, CellType.PATH, CellType.WALL},
+            {CellType.WALL, CellType.WALL, CellType.WALL}
+        };
+        Maze maze = new Maze(cells);
+        List<BatchSolver.Query> queries = List.of(new BatchSolver.Query(new Point(1, 1), new Point(0, 0)));
+
+        assertThatThrownBy(() -> new BatchSolver(new DialSolver(), 2, false).solve(maze, queries))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("End point");
+    }
+}
@@ -0,0 +1,62 @@
+package academy.maze.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.solver.impl.BidirectionalSolver;
+import academy.maze.solver.impl.DijkstraSolver;
+import org.junit.jupiter.api.Test;
+
+class BidirectionalSolverTest {
+
+    @Test
+    void solve_shouldReturnSinglePointWhenStartEqualsEnd() {
+        CellType[][] cells = {
+            {CellType.WALL, CellType.WALL, CellType.WALL},
+            {CellType.WALL, CellType.PATH, CellType.WALL},
+            {CellType.WALL, CellType.WALL, CellType.WALL}
+        };
+        Maze maze = new Maze(cells);
+
+        Path path = new BidirectionalSolver().solve(maze, new Point(1, 1), new Point(1, 1));
+
+        assertThat(path.points()).containsExactly(new Point(1, 1));
+    }
+
+    @Test
+    void solve_shouldFindSameCostAsDijkstraOnMazeWithCycles() {
+        Maze maze = TestMazes.latticeWithCycles(51, 5L);
+        Point[][] queries = {
+            {new Point(1, 1), new Point(49, 49)},
+            {new Point(49, 1), new Point(1, 49)},
+            {new Point(1, 25), new Point(49, 26)},
+            {new Point(3, 1), new Point(4, 1)}
+        };
+
+        for (Point[] query : queries) {
+            int expected = SolverUtils.pathCost(maze.grid(), new DijkstraSolver().solve(maze, query[0], query[1]));
+
+            Path sequential = new BidirectionalSolver().solve(maze, query[0], query[1]);
+            Path parallel = new BidirectionalSolver(true).solve(maze, query[0], query[1]);
+
+            assertContinuous(maze, sequential, query[0], query[1]);
+            assertContinuous(maze, parallel, query[0], query[1]);
+            assertThat(SolverUtils.pathCost(maze.grid(), sequential)).isEqualTo(expected);
+            assertThat(SolverUtils.pathCost(maze.grid(), parallel)).isEqualTo(expected);
+        }
+    }
+
+    private static void assertContinuous(Maze maze, Path path, Point start, Point end) {
+        Point[] points = path.points();
+        assertThat(points[0]).isEqualTo(start);
+        assertThat(points[points.length - 1]).isEqualTo(end);
+        for (int i = 1; i < points.length; i++) {
+            int step = Math.abs(points[i].x() - points[i - 1].x()) + Math.abs(points[i].y() - points[i - 1].y());
+            assertThat(step).isEqualTo(1);
+            assertThat(maze.grid().get(points[i].x(), points[i].y()).isPassable()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package academy.maze.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.generator.GeneratorFactory;
+import academy.maze.solver.impl.DialSolver;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class CachingSolverTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final Solver countingSolver = (maze, start, end) -> {
+        calls.incrementAndGet();
+        return new DialSolver().solve(maze, start, end);
+    };
+
+    @Test
+    void solve_shouldReuseCachedPathForSameMazeContent() {
+        CachingSolver solver = new CachingSolver(countingSolver, 10_000);
+        Point start = new Point(1, 1);
+        Point end = new Point(29, 19);
+
+        Path first = solver.solve(generate(1L), start, end);
+        Path second = solver.solve(generate(1L), new Point(1, 1), new Point(29, 19));
+
+        assertThat(second).isSameAs(first);
+        assertThat(calls.get()).isEqualTo(1);
+        CacheStats stats = solver.stats();
+        assertThat(stats.hitCount()).isEqualTo(1L);
+        assertThat(stats.missCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void solve_shouldMissForOtherEndpointsOrOtherMaze() {
+        CachingSolver solver = new CachingSolver(countingSolver, 10_000);
+        Maze maze = generate(1L);
+
+        Path path = solver.solve(maze, new Point(1, 1), new Point(29, 19));
+        Path reversed = solver.solve(maze, new Point(29, 19), new Point(1, 1));
+        Path otherMaze = solver.solve(generate(2L), new Point(1, 1), new Point(29, 19));
+
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(reversed.points()[0]).isEqualTo(path.points()[path.points().length - 1]);
+        Path expected = new DialSolver().solve(generate(2L), new Point(1, 1), new Point(29, 19));
+        assertThat(otherMaze.points()).isEqualTo(expected.points());
+        assertThat(solver.stats().hitCount()).isEqualTo(0L);
+    }
+
+    @Test
+    void solve_shouldEvictPathsBeyondMaximumWeight() {
+        Maze maze = generate(3L);
+        Path path = new DialSolver().solve(maze, new Point(1, 1), new Point(29, 19));
+        CachingSolver solver = new CachingSolver(countingSolver, path.points().length);
+
+        for (int y = 1; y < 21; y += 2) {
+            solver.solve(maze, new Point(1, 1), new Point(29, y));
+        }
+
+        assertThat(solver.stats().evictionCount()).isPositive();
+        assertThat(solver.size()).isLessThan(10L);
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveWeight() {
+        assertThatThrownBy(() -> new CachingSolver(new DialSolver(), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Maximum cache weight must be positive");
+    }
+
+    private static Maze generate(long seed) {
+        return new GeneratorFactory()
+                .createGenerator(GeneratorFactory.GeneratorType.PRIM, seed)
+                .generate(31, 21);
+    }
+}
@@ -0,0 +1,45 @@
+package academy.maze.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.generator.GeneratorFactory;
+import academy.maze.generator.SurfaceDecorator;
+import academy.maze.solver.impl.DialSolver;
+import academy.maze.solver.impl.DijkstraSolver;
+import org.junit.jupiter.api.Test;
+
+class DialSolverTest {
+
+    @Test
+    void solve_shouldFindSameCostAsDijkstraOnMazeWithCycles() {
+        Maze maze = TestMazes.latticeWithCycles(41, 3L);
+        Point start = new Point(1, 1);
+        Point end = new Point(39, 39);
+
+        Path dial = new DialSolver().solve(maze, start, end);
+        Path dijkstra = new DijkstraSolver().solve(maze, start, end);
+
+        assertThat(SolverUtils.pathCost(maze.grid(), dial)).isEqualTo(SolverUtils.pathCost(maze.grid(), dijkstra));
+    }
+
+    @Test
+    void newSession_shouldMatchFreshSolverAcrossQueries() {
+        Maze maze = new SurfaceDecorator(4L)
+                .addSurfaces(new GeneratorFactory()
+                        .createGenerator(GeneratorFactory.GeneratorType.KRUSKAL, 4L)
+                        .generate(61, 41));
+        ReusableSolver solver = new DialSolver();
+        Solver session = solver.newSession();
+
+        for (int i = 0; i < 30; i++) {
+            Point start = new Point(1 + 2 * (i % 31), 1 + 2 * (i % 21));
+            Point end = new Point(61 - 2 * (i % 17), 41 - 2 * (i % 13));
+
+            assertThat(session.solve(maze, start, end).points())
+                    .isEqualTo(solver.solve(maze, start, end).points());
+        }
+    }
+}
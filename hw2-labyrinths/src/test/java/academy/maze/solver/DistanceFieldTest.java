@@ -0,0 +1,112 @@
+package academy.maze.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.io.DistanceFieldFileHandler;
+import academy.maze.renderer.impl.HeatmapRenderer;
+import academy.maze.solver.impl.DijkstraSolver;
+import academy.maze.solver.impl.DistanceField;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import org.junit.jupiter.api.Test;
+
+class DistanceFieldTest {
+
+    @Test
+    void compute_shouldMatchDijkstraForEveryCell() {
+        Maze maze = TestMazes.latticeWithCycles(21, 11L);
+        Point source = new Point(1, 1);
+
+        DistanceField field = DistanceField.compute(maze, source);
+
+        for (int y = 0; y < 21; y++) {
+            for (int x = 0; x < 21; x++) {
+                Point target = new Point(x, y);
+                if (!maze.grid().get(x, y).isPassable()) {
+                    continue;
+                }
+                int expected = SolverUtils.pathCost(maze.grid(), new DijkstraSolver().solve(maze, source, target));
+
+                Path path = field.pathTo(target);
+
+                assertThat(path.points()[0]).isEqualTo(source);
+                assertThat(path.points()[path.points().length - 1]).isEqualTo(target);
+                assertThat(SolverUtils.pathCost(maze.grid(), path)).isEqualTo(expected);
+                assertThat(field.distance(target)).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void pathTo_shouldReturnEmptyPathForUnreachableCell() {
+        CellType[][] cells = {
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL},
+            {CellType.WALL, CellType.PATH, CellType.WALL, CellType.PATH, CellType.WALL},
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL}
+        };
+        Maze maze = new Maze(cells);
+
+        DistanceField field = DistanceField.compute(maze, new Point(1, 1));
+
+        assertThat(field.distance(new Point(3, 1))).isEqualTo(DistanceField.UNREACHED);
+        assertThat(field.pathTo(new Point(3, 1)).points()).isEmpty();
+        assertThat(field.pathTo(new Point(1, 1)).points()).containsExactly(new Point(1, 1));
+    }
+
+    @Test
+    void compute_shouldRejectWallSource() {
+        Maze maze = TestMazes.latticeWithCycles(21, 11L);
+
+        assertThatThrownBy(() -> DistanceField.compute(maze, new Point(0, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void distanceField_shouldSurviveSaveAndLoad() throws IOException {
+        Maze maze = TestMazes.latticeWithCycles(21, 11L);
+        DistanceField field = DistanceField.compute(maze, new Point(19, 19));
+        java.nio.file.Path file = Files.createTempDirectory("field").resolve("field.bin");
+        DistanceFieldFileHandler handler = new DistanceFieldFileHandler();
+
+        handler.write(file, field);
+        DistanceField loaded = handler.read(file);
+
+        assertThat(loaded.source()).isEqualTo(field.source());
+        assertThat(loaded.distances()).isEqualTo(field.distances());
+        assertThat(loaded.directions()).isEqualTo(field.directions());
+        assertThat(loaded.pathTo(new Point(1, 1)).points())
+                .isEqualTo(field.pathTo(new Point(1, 1)).points());
+    }
+
+    @Test
+    void heatmap_shouldGradeDistancesFromSource() {
+        CellType[][] cells = {
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL},
+            {CellType.WALL, CellType.PATH, CellType.PATH, CellType.PATH, CellType.PATH, CellType.WALL},
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL}
+        };
+        Maze maze = new Maze(cells);
+
+        String heatmap = new HeatmapRenderer().render(maze, DistanceField.compute(maze, new Point(1, 1)));
+
+        assertThat(heatmap).isEqualTo("######\n#O369#\n######\n");
+    }
+
+    @Test
+    void heatmap_shouldStreamSameTextAsStringRendering() throws IOException {
+        Maze maze = TestMazes.latticeWithCycles(21, 11L);
+        DistanceField field = DistanceField.compute(maze, new Point(1, 1));
+        HeatmapRenderer renderer = new HeatmapRenderer();
+        StringWriter writer = new StringWriter();
+
+        renderer.render(maze, field, writer);
+
+        assertThat(writer.toString()).isEqualTo(renderer.render(maze, field));
+    }
+}
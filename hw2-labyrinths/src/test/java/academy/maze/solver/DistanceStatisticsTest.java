@@ -0,0 +1,73 @@
+package academy.maze.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Point;
+import academy.maze.generator.GeneratorFactory;
+import academy.maze.solver.impl.DistanceField;
+import academy.maze.solver.impl.DistanceStatistics;
+import academy.maze.solver.impl.MultiSourceBfs;
+import org.junit.jupiter.api.Test;
+
+class DistanceStatisticsTest {
+
+    @Test
+    void compute_shouldMatchSingleSourceFieldsForClusteredSources() {
+        Maze maze = new GeneratorFactory().createGenerator(GeneratorFactory.GeneratorType.PRIM, 3L).generate(41, 41);
+        int width = maze.grid().width();
+        int[] sources = {width + 1, width + 3, 3 * width + 1, 3 * width + 3};
+
+        assertMatchesFields(maze, sources);
+    }
+
+    @Test
+    void compute_shouldMatchSingleSourceFieldsForScatteredSources() {
+        Maze maze = new GeneratorFactory().createGenerator(GeneratorFactory.GeneratorType.DFS, 4L).generate(61, 61);
+        int width = maze.grid().width();
+        int[] sources = {width + 1, 61 * width + 61, 31 * width + 1, width + 61};
+
+        assertMatchesFields(maze, sources);
+    }
+
+    @Test
+    void compute_shouldHandleMazeWithSurfaces() {
+        Maze maze = TestMazes.latticeWithCycles(21, 2L);
+        int width = maze.grid().width();
+        int[] sources = {width + 1, 2 * width + 1, 19 * width + 19};
+
+        assertMatchesFields(maze, sources);
+    }
+
+    @Test
+    void compute_shouldRejectEmptySources() {
+        Maze maze = new GeneratorFactory().createGenerator(GeneratorFactory.GeneratorType.DFS, 1L).generate(11, 11);
+
+        assertThatThrownBy(() -> DistanceStatistics.compute(maze.grid(), new int[0]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("source");
+    }
+
+    private static void assertMatchesFields(Maze maze, int[] sources) {
+        MultiSourceBfs.Statistics statistics = DistanceStatistics.compute(maze.grid(), sources);
+
+        int width = maze.grid().width();
+        for (int i = 0; i < sources.length; i++) {
+            DistanceField field = DistanceField.compute(maze, new Point(sources[i] % width, sources[i] / width));
+            int eccentricity = 0;
+            long sum = 0;
+            int reachable = 0;
+            for (int distance : field.distances()) {
+                if (distance != DistanceField.UNREACHED) {
+                    eccentricity = Math.max(eccentricity, distance);
+                    sum += distance;
+                    reachable++;
+                }
+            }
+            assertThat(statistics.eccentricity()[i]).isEqualTo(eccentricity);
+            assertThat(statistics.distanceSum()[i]).isEqualTo(sum);
+            assertThat(statistics.reachable()[i]).isEqualTo(reachable);
+        }
+    }
+}
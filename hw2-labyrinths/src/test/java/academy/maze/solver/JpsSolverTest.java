@@ -0,0 +1,64 @@
+package academy.maze.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.generator.GeneratorFactory;
+import academy.maze.generator.SurfaceDecorator;
+import academy.maze.solver.impl.AstarSolver;
+import academy.maze.solver.impl.DialSolver;
+import academy.maze.solver.impl.JpsSolver;
+import org.junit.jupiter.api.Test;
+
+class JpsSolverTest {
+
+    @Test
+    void solve_shouldFindSameCostAsDialOnUniformMaze() {
+        Maze maze = TestMazes.lattice(31);
+        Point start = new Point(1, 1);
+        Point end = new Point(29, 28);
+
+        Path jps = new JpsSolver().solve(maze, start, end);
+        Path dial = new DialSolver().solve(maze, start, end);
+
+        assertThat(SolverUtils.pathCost(maze.grid(), jps)).isEqualTo(SolverUtils.pathCost(maze.grid(), dial));
+        assertThat(jps.points()[0]).isEqualTo(start);
+        assertThat(jps.points()[jps.points().length - 1]).isEqualTo(end);
+    }
+
+    @Test
+    void solve_shouldFallBackToAstarWhenCostsDiffer() {
+        Maze maze = new SurfaceDecorator(11L)
+                .addSurfaces(new GeneratorFactory()
+                        .createGenerator(GeneratorFactory.GeneratorType.PRIM, 11L)
+                        .generate(101, 101));
+        Point start = new Point(1, 1);
+        Point end = new Point(101, 101);
+
+        Path jps = new JpsSolver().solve(maze, start, end);
+        Path astar = new AstarSolver().solve(maze, start, end);
+
+        assertThat(jps.points()).isEqualTo(astar.points());
+    }
+
+    @Test
+    void solve_shouldRecheckUniformityWhenGridChanges() {
+        Maze plain = new GeneratorFactory()
+                .createGenerator(GeneratorFactory.GeneratorType.PRIM, 13L)
+                .generate(61, 61);
+        Maze decorated = new SurfaceDecorator(13L).addSurfaces(plain);
+        Solver solver = new JpsSolver();
+        Point start = new Point(1, 1);
+        Point end = new Point(61, 61);
+
+        Path first = solver.solve(plain, start, end);
+        Path second = solver.solve(decorated, start, end);
+        Path third = solver.solve(plain, start, end);
+
+        assertThat(first.points().length).isEqualTo(new DialSolver().solve(plain, start, end).points().length);
+        assertThat(second.points()).isEqualTo(new AstarSolver().solve(decorated, start, end).points());
+        assertThat(third.points()).isEqualTo(first.points());
+    }
+}
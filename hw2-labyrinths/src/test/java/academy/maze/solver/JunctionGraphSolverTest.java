@@ -0,0 +1,61 @@
+package academy.maze.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.generator.GeneratorFactory;
+import academy.maze.solver.impl.DialSolver;
+import academy.maze.solver.impl.DijkstraSolver;
+import academy.maze.solver.impl.JunctionGraph;
+import academy.maze.solver.impl.JunctionGraphSolver;
+import org.junit.jupiter.api.Test;
+
+class JunctionGraphSolverTest {
+
+    @Test
+    void solve_shouldFindSameCostAsDijkstraOnMazeWithCycles() {
+        Maze maze = TestMazes.latticeWithCycles(41, 9L);
+        JunctionGraphSolver solver = new JunctionGraphSolver();
+        Point[][] queries = {
+            {new Point(1, 1), new Point(39, 39)},
+            {new Point(3, 1), new Point(3, 39)},
+            {new Point(39, 20), new Point(1, 21)},
+            {new Point(5, 1), new Point(4, 1)}
+        };
+
+        for (Point[] query : queries) {
+            Path expected = new DijkstraSolver().solve(maze, query[0], query[1]);
+
+            Path path = solver.solve(maze, query[0], query[1]);
+
+            assertThat(path.points()[0]).isEqualTo(query[0]);
+            assertThat(path.points()[path.points().length - 1]).isEqualTo(query[1]);
+            assertThat(SolverUtils.pathCost(maze.grid(), path)).isEqualTo(SolverUtils.pathCost(maze.grid(), expected));
+        }
+    }
+
+    @Test
+    void solve_shouldMatchUniquePathInPerfectMaze() {
+        Maze maze = new GeneratorFactory().createGenerator(GeneratorFactory.GeneratorType.DFS, 4L).generate(201, 201);
+        Point start = new Point(1, 1);
+        Point end = new Point(199, 201);
+
+        Path path = new JunctionGraphSolver().solve(maze, start, end);
+        Path expected = new DialSolver().solve(maze, start, end);
+
+        assertThat(path.points()).isEqualTo(expected.points());
+    }
+
+    @Test
+    void graph_shouldBeSmallerThanGridAndReusedForSameMaze() {
+        Maze maze = new GeneratorFactory().createGenerator(GeneratorFactory.GeneratorType.DFS, 4L).generate(201, 201);
+        JunctionGraphSolver solver = new JunctionGraphSolver();
+
+        JunctionGraph graph = solver.graph(maze);
+
+        assertThat(solver.graph(maze)).isSameAs(graph);
+        assertThat(graph.nodeCount()).isLessThan(101 * 101 / 2);
+    }
+}
@@ -0,0 +1,117 @@
+package academy.maze.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.dto.CellGrid;
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Point;
+import academy.maze.generator.GeneratorFactory;
+import academy.maze.generator.SurfaceDecorator;
+import academy.maze.solver.impl.DistanceField;
+import academy.maze.solver.impl.MultiSourceBfs;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class MultiSourceBfsTest {
+
+    @Test
+    void distances_shouldMatchSingleSourceSearchForMoreThanOneBatch() {
+        Maze maze = new GeneratorFactory().createGenerator(GeneratorFactory.GeneratorType.KRUSKAL, 2L).generate(61, 45);
+        int[] sources = randomPassableCells(maze.grid(), 100, 2L);
+
+        int[][] distances = MultiSourceBfs.distances(maze.grid(), sources);
+
+        assertThat(distances.length).isEqualTo(sources.length);
+        for (int i = 0; i < sources.length; i++) {
+            assertThat(distances[i]).isEqualTo(fieldFrom(maze, sources[i]).distances());
+        }
+    }
+
+    @Test
+    void distances_shouldMarkOtherComponentAsUnreached() {
+        CellType[][] cells = {
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL},
+            {CellType.WALL, CellType.PATH, CellType.WALL, CellType.PATH, CellType.PATH},
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL}
+        };
+        Maze maze = new Maze(cells);
+
+        int[][] distances = MultiSourceBfs.distances(maze.grid(), new int[] {6, 8});
+
+        assertThat(distances[0][6]).isEqualTo(0);
+        assertThat(distances[0][8]).isEqualTo(MultiSourceBfs.UNREACHED);
+        assertThat(distances[1][9]).isEqualTo(1);
+        assertThat(distances[1][6]).isEqualTo(MultiSourceBfs.UNREACHED);
+    }
+
+    @Test
+    void statistics_shouldSummarizeDistancesOfEachSource() {
+        Maze maze = new GeneratorFactory().createGenerator(GeneratorFactory.GeneratorType.DFS, 7L).generate(41, 41);
+        int[] sources = randomPassableCells(maze.grid(), 70, 7L);
+
+        MultiSourceBfs.Statistics statistics = MultiSourceBfs.statistics(maze.grid(), sources);
+
+        int maxEccentricity = 0;
+        for (int i = 0; i < sources.length; i++) {
+            int eccentricity = 0;
+            long sum = 0;
+            int reachable = 0;
+            for (int distance : fieldFrom(maze, sources[i]).distances()) {
+                if (distance != DistanceField.UNREACHED) {
+                    eccentricity = Math.max(eccentricity, distance);
+                    sum += distance;
+                    reachable++;
+                }
+            }
+            assertThat(statistics.eccentricity()[i]).isEqualTo(eccentricity);
+            assertThat(statistics.distanceSum()[i]).isEqualTo(sum);
+            assertThat(statistics.reachable()[i]).isEqualTo(reachable);
+            maxEccentricity = Math.max(maxEccentricity, eccentricity);
+        }
+        assertThat(statistics.maxEccentricity()).isEqualTo(maxEccentricity);
+    }
+
+    @Test
+    void distances_shouldRejectMazeWithSurfaces() {
+        Maze maze = new SurfaceDecorator(1L)
+                .addSurfaces(new GeneratorFactory()
+                        .createGenerator(GeneratorFactory.GeneratorType.PRIM, 1L)
+                        .generate(31, 31));
+        int[] sources = randomPassableCells(maze.grid(), 1, 1L);
+
+        assertThatThrownBy(() -> MultiSourceBfs.distances(maze.grid(), sources))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("uniform");
+    }
+
+    @Test
+    void distances_shouldRejectWallSource() {
+        Maze maze = new GeneratorFactory().createGenerator(GeneratorFactory.GeneratorType.DFS, 1L).generate(11, 11);
+
+        assertThatThrownBy(() -> MultiSourceBfs.distances(maze.grid(), new int[] {0}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Source");
+    }
+
+    private static DistanceField fieldFrom(Maze maze, int cell) {
+        int width = maze.grid().width();
+        return DistanceField.compute(maze, new Point(cell % width, cell / width));
+    }
+
+    private static int[] randomPassableCells(CellGrid grid, int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] cells = new int[count];
+        for (int i = 0; i < count; i++) {
+            int x;
+            int y;
+            do {
+                x = random.nextInt(grid.width());
+                y = random.nextInt(grid.height());
+            } while (!grid.get(x, y).isPassable());
+            cells[i] = y * grid.width() + x;
+        }
+        return cells;
+    }
+}
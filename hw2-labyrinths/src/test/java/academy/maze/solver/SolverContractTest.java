@@ -0,0 +1,122 @@
+package academy.maze.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.generator.GeneratorFactory;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/** Общие требования ко всем решателям из {@link SolverFactory}. Особенности алгоритмов проверяются в их тестах. */
+class SolverContractTest {
+
+    private final SolverFactory factory = new SolverFactory();
+
+    @ParameterizedTest
+    @EnumSource(SolverFactory.SolverType.class)
+    void solve_shouldFindPathInSimpleMaze(SolverFactory.SolverType type) {
+        CellType[][] cells = {
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL},
+            {CellType.WALL, CellType.PATH, CellType.PATH, CellType.PATH, CellType.WALL},
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL}
+        };
+        Maze maze = new Maze(cells);
+        Solver solver = factory.createSolver(type);
+        Point start = new Point(1, 1);
+        Point end = new Point(3, 1);
+
+        Path path = solver.solve(maze, start, end);
+
+        assertThat(path.points()).isNotEmpty();
+        assertThat(path.points()[0]).isEqualTo(start);
+        assertThat(path.points()[path.points().length - 1]).isEqualTo(end);
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverFactory.SolverType.class)
+    void solve_shouldReturnEmptyPathWhenNoSolution(SolverFactory.SolverType type) {
+        CellType[][] cells = {
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL},
+            {CellType.WALL, CellType.PATH, CellType.WALL, CellType.PATH, CellType.WALL},
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL}
+        };
+        Maze maze = new Maze(cells);
+        Solver solver = factory.createSolver(type);
+
+        Path path = solver.solve(maze, new Point(1, 1), new Point(3, 1));
+
+        assertThat(path.points()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverFactory.SolverType.class)
+    void solve_shouldThrowExceptionForInvalidStartPoint(SolverFactory.SolverType type) {
+        Maze maze = singleCellMaze();
+        Solver solver = factory.createSolver(type);
+
+        assertThatThrownBy(() -> solver.solve(maze, new Point(0, 0), new Point(1, 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Start point");
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverFactory.SolverType.class)
+    void solve_shouldThrowExceptionForInvalidEndPoint(SolverFactory.SolverType type) {
+        Maze maze = singleCellMaze();
+        Solver solver = factory.createSolver(type);
+
+        assertThatThrownBy(() -> solver.solve(maze, new Point(1, 1), new Point(2, 2)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("End point");
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverFactory.SolverType.class)
+    void solve_shouldPreferCheaperPath(SolverFactory.SolverType type) {
+        CellType[][] cells = {
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL},
+            {CellType.WALL, CellType.PATH, CellType.COIN, CellType.PATH, CellType.WALL},
+            {CellType.WALL, CellType.SWAMP, CellType.SWAMP, CellType.SWAMP, CellType.WALL},
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL}
+        };
+        Maze maze = new Maze(cells);
+        Solver solver = factory.createSolver(type);
+
+        Path path = solver.solve(maze, new Point(1, 1), new Point(3, 1));
+
+        assertThat(path.points()).containsExactly(new Point(1, 1), new Point(2, 1), new Point(3, 1));
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolverFactory.SolverType.class)
+    void solve_shouldFindConnectedPathInLargeMaze(SolverFactory.SolverType type) {
+        Maze maze = new GeneratorFactory().createGenerator(GeneratorFactory.GeneratorType.DFS, 1L).generate(301, 301);
+        Solver solver = factory.createSolver(type);
+        Point start = new Point(1, 1);
+        Point end = new Point(301, 301);
+
+        Path path = solver.solve(maze, start, end);
+
+        Point[] points = path.points();
+        assertThat(points[0]).isEqualTo(start);
+        assertThat(points[points.length - 1]).isEqualTo(end);
+        for (int i = 1; i < points.length; i++) {
+            int step = Math.abs(points[i].x() - points[i - 1].x()) + Math.abs(points[i].y() - points[i - 1].y());
+            assertThat(step).isEqualTo(1);
+            assertThat(maze.grid().get(points[i].x(), points[i].y()).isPassable()).isTrue();
+        }
+    }
+
+    private static Maze singleCellMaze() {
+        CellType[][] cells = {
+            {CellType.WALL, CellType.WALL, CellType.WALL},
+            {CellType.WALL, CellType.PATH, CellType.WALL},
+            {CellType.WALL, CellType.WALL, CellType.WALL}
+        };
+        return new Maze(cells);
+    }
+}
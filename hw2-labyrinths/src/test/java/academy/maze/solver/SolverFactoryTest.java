@@ -27,6 +27,67 @@ class SolverFactoryTest {
         assertThat(solver.getClass().getSimpleName()).isEqualTo("DijkstraSolver");
     }
 
+    @Test
+    void createSolver_shouldReturnDialSolverForDial() {
+        SolverFactory factory = new SolverFactory();
+
+        Solver solver = factory.createSolver("dial");
+
+        assertThat(solver).isNotNull();
+        assertThat(solver.getClass().getSimpleName()).isEqualTo("DialSolver");
+    }
+
+    @Test
+    void createSolver_shouldReturnBidirectionalSolverForBothModes() {
+        SolverFactory factory = new SolverFactory();
+
+        Solver sequential = factory.createSolver("bidirectional");
+        Solver parallel = factory.createSolver("bidirectional_parallel");
+
+        assertThat(sequential.getClass().getSimpleName()).isEqualTo("BidirectionalSolver");
+        assertThat(parallel.getClass().getSimpleName()).isEqualTo("BidirectionalSolver");
+    }
+
+    @Test
+    void createSolver_shouldReturnJpsSolverForJps() {
+        SolverFactory factory = new SolverFactory();
+
+        Solver solver = factory.createSolver("jps");
+
+        assertThat(solver).isNotNull();
+        assertThat(solver.getClass().getSimpleName()).isEqualTo("JpsSolver");
+    }
+
+    @Test
+    void createSolver_shouldReturnJunctionGraphSolverForJunction() {
+        SolverFactory factory = new SolverFactory();
+
+        Solver solver = factory.createSolver("junction");
+
+        assertThat(solver).isNotNull();
+        assertThat(solver.getClass().getSimpleName()).isEqualTo("JunctionGraphSolver");
+    }
+
+    @Test
+    void createSolver_shouldReturnTreeSolverForTree() {
+        SolverFactory factory = new SolverFactory();
+
+        Solver solver = factory.createSolver("tree");
+
+        assertThat(solver).isNotNull();
+        assertThat(solver.getClass().getSimpleName()).isEqualTo("TreeSolver");
+    }
+
+    @Test
+    void createSolver_shouldReturnAltSolverForAlt() {
+        SolverFactory factory = new SolverFactory();
+
+        Solver solver = factory.createSolver("alt");
+
+        assertThat(solver).isNotNull();
+        assertThat(solver.getClass().getSimpleName()).isEqualTo("AltSolver");
+    }
+
     @Test
     void createSolver_shouldBeCaseInsensitive() {
         SolverFactory factory = new SolverFactory();
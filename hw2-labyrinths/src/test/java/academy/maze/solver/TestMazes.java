@@ -0,0 +1,40 @@
+package academy.maze.solver;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.generator.SurfaceDecorator;
+
+/** Общие лабиринты для тестов решателей. */
+final class TestMazes {
+
+    private TestMazes() {}
+
+    /**
+     * Строит квадратный лабиринт с множеством циклов: открытое поле в рамке из стен, перегороженное короткими
+     * стенками через каждые четыре столбца и три строки. Все проходы имеют одинаковую стоимость.
+     *
+     * @param side сторона лабиринта
+     * @return лабиринт с циклами без поверхностей
+     */
+    static Maze lattice(int side) {
+        CellType[][] cells = new CellType[side][side];
+        for (int y = 0; y < side; y++) {
+            for (int x = 0; x < side; x++) {
+                boolean border = x == 0 || y == 0 || x == side - 1 || y == side - 1;
+                cells[y][x] = border || (x % 4 == 2 && y % 3 == 0) ? CellType.WALL : CellType.PATH;
+            }
+        }
+        return new Maze(cells);
+    }
+
+    /**
+     * Строит лабиринт {@link #lattice(int)} с воспроизводимо расставленными поверхностями.
+     *
+     * @param side сторона лабиринта
+     * @param seed зерно расстановки поверхностей
+     * @return лабиринт с циклами и поверхностями
+     */
+    static Maze latticeWithCycles(int side, long seed) {
+        return new SurfaceDecorator(seed).addSurfaces(lattice(side));
+    }
+}
@@ -0,0 +1,57 @@
+package academy.maze.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import academy.maze.dto.CellType;
+import academy.maze.dto.Maze;
+import academy.maze.dto.Path;
+import academy.maze.dto.Point;
+import academy.maze.generator.GeneratorFactory;
+import academy.maze.generator.SurfaceDecorator;
+import academy.maze.solver.impl.DialSolver;
+import academy.maze.solver.impl.TreeSolver;
+import org.junit.jupiter.api.Test;
+
+class TreeSolverTest {
+
+    @Test
+    void solve_shouldMatchSearchOnPerfectMaze() {
+        Maze maze = new SurfaceDecorator(6L)
+                .addSurfaces(new GeneratorFactory()
+                        .createGenerator(GeneratorFactory.GeneratorType.PRIM, 6L)
+                        .generate(151, 151));
+        TreeSolver solver = new TreeSolver();
+        Point[][] queries = {
+            {new Point(1, 1), new Point(151, 151)},
+            {new Point(151, 1), new Point(1, 151)},
+            {new Point(75, 75), new Point(77, 75)},
+            {new Point(9, 9), new Point(9, 9)}
+        };
+
+        for (Point[] query : queries) {
+            Path path = solver.solve(maze, query[0], query[1]);
+            Path expected = new DialSolver().solve(maze, query[0], query[1]);
+
+            assertThat(path.points()).isEqualTo(expected.points());
+        }
+        assertThat(solver.index(maze)).isNotNull();
+        assertThat(solver.index(maze)).isSameAs(solver.index(maze));
+    }
+
+    @Test
+    void solve_shouldFallBackForMazeWithCycles() {
+        CellType[][] cells = {
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL},
+            {CellType.WALL, CellType.PATH, CellType.PATH, CellType.WALL},
+            {CellType.WALL, CellType.SWAMP, CellType.PATH, CellType.WALL},
+            {CellType.WALL, CellType.WALL, CellType.WALL, CellType.WALL}
+        };
+        Maze maze = new Maze(cells);
+        TreeSolver solver = new TreeSolver();
+
+        Path path = solver.solve(maze, new Point(1, 2), new Point(2, 2));
+
+        assertThat(solver.index(maze)).isNull();
+        assertThat(path.points()).containsExactly(new Point(1, 2), new Point(2, 2));
+    }
+}